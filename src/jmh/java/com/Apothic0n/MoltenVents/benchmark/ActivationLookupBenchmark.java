@@ -0,0 +1,95 @@
+package com.Apothic0n.MoltenVents.benchmark;
+
+import com.Apothic0n.MoltenVents.config.MoltenVentsActivationConfig;
+import com.Apothic0n.MoltenVents.config.VentActivationSnapshot;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the dormant → active lookup done for a blaze burner, for a small (default pack),
+ * medium and very large list of vent pairs. The hit case looks up the last configured pair,
+ * which is the worst case for a linear scan; the miss case is what almost every burner sees.
+ *
+ * Pairs are built from real registry blocks so the compiled block-keyed identity map lookup used
+ * on the tick path can be compared against a baseline: a linear scan of the configured pairs by
+ * registry ID string, which is how the lookup worked before pairs were compiled.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ActivationLookupBenchmark {
+
+    @Param({"6", "100", "1000"})
+    public int pairs;
+
+    private List<MoltenVentsActivationConfig.VentPair> ventPairs;
+    private VentActivationSnapshot snapshot;
+    private String hitId;
+    private String missId;
+    private Block hitBlock;
+    private Block missBlock;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Headless.bootstrap();
+        List<Block> dormant = BuiltInRegistries.BLOCK.stream()
+                .filter(block -> block != Blocks.AIR)
+                .limit(pairs)
+                .toList();
+        MoltenVentsActivationConfig config = new MoltenVentsActivationConfig();
+        for (Block block : dormant) {
+            config.ventPairs.add(new MoltenVentsActivationConfig.VentPair(
+                    BuiltInRegistries.BLOCK.getKey(block).toString(), "minecraft:magma_block"));
+        }
+        ventPairs = config.ventPairs;
+        snapshot = VentActivationSnapshot.compile(config);
+        hitBlock = dormant.get(dormant.size() - 1);
+        missBlock = Blocks.AIR;
+        hitId = BuiltInRegistries.BLOCK.getKey(hitBlock).toString();
+        missId = BuiltInRegistries.BLOCK.getKey(missBlock).toString();
+    }
+
+    @Benchmark
+    public String lookupHit() {
+        return scanActiveId(hitId);
+    }
+
+    @Benchmark
+    public String lookupMiss() {
+        return scanActiveId(missId);
+    }
+
+    @Benchmark
+    public BlockState compiledHit() {
+        return snapshot.getActiveState(hitBlock);
+    }
+
+    @Benchmark
+    public BlockState compiledMiss() {
+        return snapshot.getActiveState(missBlock);
+    }
+
+    /** String-scan baseline: the active ID of the first pair whose dormant ID equals {@code dormantId}. */
+    private String scanActiveId(String dormantId) {
+        for (MoltenVentsActivationConfig.VentPair pair : ventPairs) {
+            if (dormantId.equals(pair.dormant)) {
+                return pair.active;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,200 @@
+package com.Apothic0n.MoltenVents.benchmark;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.util.valueproviders.UniformInt;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.dimension.BuiltinDimensionTypes;
+import net.minecraft.world.level.dimension.DimensionType;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.function.Predicate;
+
+/**
+ * In-memory, array-backed stand-in for a {@link WorldGenLevel}.
+ *
+ * Only the handful of methods the vent feature touches are implemented (block reads and writes,
+ * build height, fluid ticks); anything else throws so a benchmark never silently measures a stub.
+ * Positions outside the box read as air and ignore writes.
+ */
+public final class ArrayWorldGenLevel implements InvocationHandler {
+
+    /** Overworld-like dimension type; only {@code ultraWarm} is ever read. */
+    private static final DimensionType DIMENSION_TYPE = new DimensionType(OptionalLong.empty(), true, false, false, true, 1.0,
+            true, false, -64, 384, 384, BlockTags.INFINIBURN_OVERWORLD, BuiltinDimensionTypes.OVERWORLD_EFFECTS, 0.0F,
+            new DimensionType.MonsterSettings(false, true, UniformInt.of(0, 7), 0));
+
+    private final int sizeX;
+    private final int sizeZ;
+    private final int minY;
+    private final int height;
+    private final BlockState[] blocks;
+    private final WorldGenLevel level;
+    /** Boxed once: {@code invoke} returns an {@code Object}, and values outside the Integer cache would allocate per call. */
+    private final Integer boxedMinY;
+    private final Integer boxedMaxY;
+    private final Integer boxedHeight;
+
+    private long writes;
+    private long scheduledTicks;
+
+    /** Proxy calls by argument count; each call with arguments allocates an {@code Object[]} of that length. */
+    private final long[] callsByArity = new long[8];
+    /** Arguments the proxy had to box outside the JDK's box caches (always allocates). */
+    private long uncachedBoxes;
+
+    public ArrayWorldGenLevel(int sizeX, int sizeZ, int minY, int height) {
+        this.sizeX = sizeX;
+        this.sizeZ = sizeZ;
+        this.minY = minY;
+        this.height = height;
+        this.blocks = new BlockState[sizeX * sizeZ * height];
+        Arrays.fill(blocks, Blocks.AIR.defaultBlockState());
+        this.boxedMinY = minY;
+        this.boxedMaxY = minY + height;
+        this.boxedHeight = height;
+        this.level = (WorldGenLevel) Proxy.newProxyInstance(WorldGenLevel.class.getClassLoader(), new Class<?>[]{WorldGenLevel.class}, this);
+    }
+
+    /** Fills every block from {@code fromY} (inclusive) to {@code toY} (exclusive) with {@code state}. */
+    public ArrayWorldGenLevel fillLayers(int fromY, int toY, BlockState state) {
+        for (int y = Math.max(fromY, minY); y < Math.min(toY, minY + height); y++) {
+            int start = (y - minY) * sizeX * sizeZ;
+            Arrays.fill(blocks, start, start + sizeX * sizeZ, state);
+        }
+        return this;
+    }
+
+    public WorldGenLevel level() {
+        return level;
+    }
+
+    public long writes() {
+        return writes;
+    }
+
+    public long scheduledTicks() {
+        return scheduledTicks;
+    }
+
+    /** Proxy calls made with {@code arity} arguments since the last {@link #resetCounters}. */
+    public long calls(int arity) {
+        return callsByArity[arity];
+    }
+
+    public int maxArity() {
+        return callsByArity.length - 1;
+    }
+
+    public long uncachedBoxes() {
+        return uncachedBoxes;
+    }
+
+    public void resetCounters() {
+        Arrays.fill(callsByArity, 0);
+        uncachedBoxes = 0;
+    }
+
+    /** Order-sensitive hash of every block plus the write and tick counts, for comparing runs cheaply. */
+    public long fingerprint() {
+        long hash = 17;
+        for (BlockState state : blocks) {
+            hash = hash * 31 + System.identityHashCode(state);
+        }
+        return (hash * 31 + writes) * 31 + scheduledTicks;
+    }
+
+    /** Copy of the current block array, for comparing the output of two runs. */
+    public BlockState[] snapshot() {
+        return blocks.clone();
+    }
+
+    private int index(BlockPos pos) {
+        int x = pos.getX();
+        int y = pos.getY() - minY;
+        int z = pos.getZ();
+        if (x < 0 || x >= sizeX || z < 0 || z >= sizeZ || y < 0 || y >= height) {
+            return -1;
+        }
+        return (y * sizeZ + z) * sizeX + x;
+    }
+
+    private BlockState getBlockState(BlockPos pos) {
+        int index = index(pos);
+        return index < 0 ? Blocks.AIR.defaultBlockState() : blocks[index];
+    }
+
+    private boolean setBlock(BlockPos pos, BlockState state) {
+        int index = index(pos);
+        if (index < 0) {
+            return false;
+        }
+        blocks[index] = state;
+        writes++;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        count(args);
+        switch (method.getName()) {
+            case "getBlockState":
+                return getBlockState((BlockPos) args[0]);
+            case "getFluidState":
+                return getBlockState((BlockPos) args[0]).getFluidState();
+            case "isStateAtPosition":
+                return ((Predicate<BlockState>) args[1]).test(getBlockState((BlockPos) args[0]));
+            case "setBlock":
+                return setBlock((BlockPos) args[0], (BlockState) args[1]);
+            case "scheduleTick":
+                scheduledTicks++;
+                return null;
+            case "getMinBuildHeight":
+                return boxedMinY;
+            case "getMaxBuildHeight":
+                return boxedMaxY;
+            case "getHeight":
+                if (args == null || args.length == 0) {
+                    return boxedHeight;
+                }
+                break;
+            case "dimensionType":
+                // Fluids read this for their tick delay
+                return DIMENSION_TYPE;
+            case "getLevel":
+                return null;
+            case "getChunk":
+                // No chunks to probe; placement then skips its empty-section check
+                return null;
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "ArrayWorldGenLevel[" + sizeX + "x" + height + "x" + sizeZ + "]";
+            default:
+                break;
+        }
+        throw new UnsupportedOperationException("ArrayWorldGenLevel does not implement " + method);
+    }
+
+    private void count(Object[] args) {
+        int arity = args == null ? 0 : args.length;
+        callsByArity[Math.min(arity, callsByArity.length - 1)]++;
+        if (args == null) return;
+        for (Object arg : args) {
+            if (arg instanceof Integer i && (i < -128 || i > 127)
+                    || arg instanceof Long l && (l < -128 || l > 127)
+                    || arg instanceof Float || arg instanceof Double) {
+                uncachedBoxes++;
+            }
+        }
+    }
+}
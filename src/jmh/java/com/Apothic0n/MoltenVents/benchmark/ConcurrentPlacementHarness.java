@@ -0,0 +1,89 @@
+package com.Apothic0n.MoltenVents.benchmark;
+
+import com.Apothic0n.MoltenVents.api.biome.features.configurations.MoltenVentConfiguration;
+import com.Apothic0n.MoltenVents.api.biome.features.types.MoltenVentFeature;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
+
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Stress harness for concurrent {@link MoltenVentFeature#place} calls.
+ *
+ * Every task places one vent into its own in-memory level with its own seeded random, mixing
+ * depths, underwater and provider variants. The tasks are run once on a single thread for
+ * reference fingerprints, then on fork-join pools of 1, 2, 4, ... N workers sharing one feature
+ * instance. Any task whose output differs from the reference fails the run. Throughput and
+ * speed-up over one worker are printed for each pool size.
+ *
+ * Run with: ./gradlew jmhStress [-PstressTasks=4000] [-PstressThreads=16]
+ */
+public final class ConcurrentPlacementHarness {
+
+    private static final int[] DEPTHS = {12, 40, 80, 255};
+    private static final String[] PROVIDERS = {"simple", "weighted"};
+
+    private final MoltenVentFeature feature = new MoltenVentFeature(MoltenVentConfiguration.CODEC);
+    private final MoltenVentConfiguration[] configurations = new MoltenVentConfiguration[DEPTHS.length * 2 * PROVIDERS.length];
+
+    private ConcurrentPlacementHarness() {
+        for (int i = 0; i < configurations.length; i++) {
+            configurations[i] = VentPlacementBenchmark.createConfiguration(DEPTHS[i % DEPTHS.length], underwater(i), PROVIDERS[i / (DEPTHS.length * 2)]);
+        }
+    }
+
+    public static void main(String[] args) {
+        int tasks = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        Headless.bootstrap();
+        ConcurrentPlacementHarness harness = new ConcurrentPlacementHarness();
+
+        long[] reference = new long[tasks];
+        for (int task = 0; task < tasks; task++) {
+            reference[task] = harness.run(task);
+        }
+        System.out.printf("Reference: %d placements on 1 thread%n", tasks);
+
+        double baseline = 0;
+        for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+            long[] results = new long[tasks];
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            long start = System.nanoTime();
+            try {
+                pool.submit(() -> IntStream.range(0, tasks).parallel().forEach(task -> results[task] = harness.run(task))).join();
+            } finally {
+                pool.shutdown();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            for (int task = 0; task < tasks; task++) {
+                if (results[task] != reference[task]) {
+                    throw new AssertionError("Task " + task + " produced different output on " + threads + " thread(s)");
+                }
+            }
+            double throughput = tasks / seconds;
+            if (threads == 1) baseline = throughput;
+            System.out.printf("%3d thread(s): %10.0f placements/s, %5.2fx, output identical%n", threads, throughput, throughput / baseline);
+
+            if (threads == maxThreads) break;
+        }
+    }
+
+    /** Places vent {@code task} into a fresh level and returns the level's fingerprint. */
+    private long run(int task) {
+        MoltenVentConfiguration configuration = configurations[task % configurations.length];
+        ArrayWorldGenLevel level = VentPlacementBenchmark.createLevel(underwater(task % configurations.length));
+        RandomSource random = RandomSource.create(task);
+        BlockPos origin = new BlockPos(VentPlacementBenchmark.SIZE / 2, VentPlacementBenchmark.SURFACE_Y, VentPlacementBenchmark.SIZE / 2);
+        feature.place(new FeaturePlaceContext<>(Optional.empty(), level.level(), null, random, origin, configuration));
+        return level.fingerprint();
+    }
+
+    private static boolean underwater(int configuration) {
+        return (configuration / DEPTHS.length) % 2 == 1;
+    }
+}
@@ -0,0 +1,18 @@
+package com.Apothic0n.MoltenVents.benchmark;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+
+/**
+ * Boots the vanilla registries without a client or server, which is all the benchmarks need
+ * to create block states and state providers.
+ */
+public final class Headless {
+
+    private Headless() {}
+
+    public static void bootstrap() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+}
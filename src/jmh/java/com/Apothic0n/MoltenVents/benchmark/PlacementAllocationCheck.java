@@ -0,0 +1,157 @@
+package com.Apothic0n.MoltenVents.benchmark;
+
+import com.Apothic0n.MoltenVents.api.biome.features.configurations.MoltenVentConfiguration;
+import com.Apothic0n.MoltenVents.api.biome.features.types.MoltenVentFeature;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Checks that a warm {@link MoltenVentFeature#place} call allocates nothing on the placing thread.
+ *
+ * Allocation is read from {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes}
+ * around a loop of placements into the same {@link ArrayWorldGenLevel}. That level is a
+ * {@link java.lang.reflect.Proxy}, which allocates an argument array for every call with
+ * arguments; those bytes are calibrated per argument count up front and subtracted, so what is
+ * left is the feature's own allocation. Run with escape analysis off so the numbers do not depend
+ * on what the JIT happens to scalar-replace.
+ *
+ * Only simple providers are used: vanilla's weighted provider allocates inside its own sampling.
+ * The vent index and spillover store are not reached here, since the stand-in level has no server
+ * level and is not a {@code WorldGenRegion}.
+ *
+ * Run with: ./gradlew jmhAllocationCheck (opt-in; not part of {@code check})
+ */
+public final class PlacementAllocationCheck {
+
+    private static final int[] DEPTHS = {12, 80, 255};
+    private static final int WARMUP_PLACEMENTS = 20_000;
+    private static final int MEASURED_PLACEMENTS = 2_000;
+    private static final int CALIBRATION_CALLS = 100_000;
+    /** Tolerated unexplained bytes per measured loop, for one-off JVM bookkeeping such as a TLAB refill. */
+    private static final long SLACK_BYTES = 1024;
+
+    private static final Predicate<BlockState> ANY_STATE = state -> true;
+
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private PlacementAllocationCheck() {}
+
+    public static void main(String[] args) {
+        if (!THREADS.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("This JVM does not report per-thread allocation");
+        }
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+        Headless.bootstrap();
+
+        MoltenVentFeature feature = new MoltenVentFeature(MoltenVentConfiguration.CODEC);
+        long probeBytes = probeOverhead();
+        boolean failed = false;
+        for (int depth : DEPTHS) {
+            for (boolean underwater : new boolean[]{false, true}) {
+                failed |= !check(feature, depth, underwater, probeBytes);
+            }
+        }
+        if (failed) {
+            throw new AssertionError("Vent placement allocates on the placing thread");
+        }
+    }
+
+    private static boolean check(MoltenVentFeature feature, int depth, boolean underwater, long probeBytes) {
+        ArrayWorldGenLevel level = VentPlacementBenchmark.createLevel(underwater);
+        RandomSource random = RandomSource.create(0L);
+        FeaturePlaceContext<MoltenVentConfiguration> context = new FeaturePlaceContext<>(Optional.empty(), level.level(), null, random,
+                new BlockPos(VentPlacementBenchmark.SIZE / 2, VentPlacementBenchmark.SURFACE_Y, VentPlacementBenchmark.SIZE / 2),
+                VentPlacementBenchmark.createConfiguration(depth, underwater, "simple"));
+        long[] arrayBytes = calibrate(level);
+
+        long seed = 0;
+        for (int i = 0; i < WARMUP_PLACEMENTS; i++) {
+            random.setSeed(seed++);
+            feature.place(context);
+        }
+
+        level.resetCounters();
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_PLACEMENTS; i++) {
+            random.setSeed(seed++);
+            feature.place(context);
+        }
+        long total = THREADS.getCurrentThreadAllocatedBytes() - before - probeBytes;
+
+        if (level.uncachedBoxes() != 0) {
+            throw new IllegalStateException(level.uncachedBoxes() + " proxy argument(s) were boxed outside the box caches; "
+                    + "calibrate them before trusting this check");
+        }
+        long proxyBytes = 0;
+        for (int arity = 1; arity <= level.maxArity(); arity++) {
+            if (level.calls(arity) != 0 && arrayBytes[arity] < 0) {
+                throw new IllegalStateException("No calibration for proxy calls with " + arity + " argument(s)");
+            }
+            proxyBytes += level.calls(arity) * Math.max(0, arrayBytes[arity]);
+        }
+        long own = total - proxyBytes;
+        boolean passed = own <= SLACK_BYTES;
+        System.out.printf("depth %3d, underwater %-5s: %8d bytes total, %8d from the proxy, %6d own (%.2f per placement) %s%n",
+                depth, underwater, total, proxyBytes, own, (double) own / MEASURED_PLACEMENTS, passed ? "ok" : "FAILED");
+        return passed;
+    }
+
+    /**
+     * Bytes one proxy call allocates for each argument count, measured on calls whose handler
+     * allocates nothing itself; {@code -1} where no such call exists.
+     */
+    private static long[] calibrate(ArrayWorldGenLevel stub) {
+        WorldGenLevel level = stub.level();
+        BlockPos inside = new BlockPos(0, VentPlacementBenchmark.MIN_Y, 0);
+        // Outside the box, so writes are ignored and the level stays as placement expects it
+        BlockPos outside = new BlockPos(-1, VentPlacementBenchmark.MIN_Y, -1);
+        BlockState state = Blocks.STONE.defaultBlockState();
+
+        long[] bytes = new long[stub.maxArity() + 1];
+        Arrays.fill(bytes, -1);
+        bytes[0] = 0;
+        for (int round = 0; round < 2; round++) {
+            // The first round only warms the calls up
+            long before = THREADS.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < CALIBRATION_CALLS; i++) level.getBlockState(inside);
+            bytes[1] = perCall(before);
+
+            before = THREADS.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < CALIBRATION_CALLS; i++) level.isStateAtPosition(inside, ANY_STATE);
+            bytes[2] = perCall(before);
+
+            before = THREADS.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < CALIBRATION_CALLS; i++) level.setBlock(outside, state, 2);
+            bytes[3] = perCall(before);
+
+            before = THREADS.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < CALIBRATION_CALLS; i++) level.setBlock(outside, state, 2, 512);
+            bytes[4] = perCall(before);
+        }
+        stub.resetCounters();
+        return bytes;
+    }
+
+    private static long perCall(long before) {
+        return Math.round((double) (THREADS.getCurrentThreadAllocatedBytes() - before) / CALIBRATION_CALLS);
+    }
+
+    /** What reading the allocation counter twice costs by itself. */
+    private static long probeOverhead() {
+        long overhead = 0;
+        for (int i = 0; i < 1000; i++) {
+            long before = THREADS.getCurrentThreadAllocatedBytes();
+            overhead = THREADS.getCurrentThreadAllocatedBytes() - before;
+        }
+        return overhead;
+    }
+}
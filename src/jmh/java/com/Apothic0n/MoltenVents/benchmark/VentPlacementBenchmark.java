@@ -0,0 +1,104 @@
+package com.Apothic0n.MoltenVents.benchmark;
+
+import com.Apothic0n.MoltenVents.api.biome.features.configurations.MoltenVentConfiguration;
+import com.Apothic0n.MoltenVents.api.biome.features.types.MoltenVentFeature;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.util.random.SimpleWeightedRandomList;
+import net.minecraft.util.valueproviders.ConstantInt;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
+import net.minecraft.world.level.levelgen.feature.stateproviders.BlockStateProvider;
+import net.minecraft.world.level.levelgen.feature.stateproviders.WeightedStateProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one {@link MoltenVentFeature#place} call against an {@link ArrayWorldGenLevel}.
+ *
+ * The same column is re-used for every invocation: after the first placement the origin still
+ * sits on a solid inner block (and under water for underwater vents), so each call takes the
+ * full placement path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class VentPlacementBenchmark {
+
+    static final int SIZE = 32;
+    static final int MIN_Y = -64;
+    static final int HEIGHT = 384;
+    static final int SURFACE_Y = 64;
+
+    @Param({"12", "40", "80", "255"})
+    public int depth;
+
+    @Param({"false", "true"})
+    public boolean underwater;
+
+    @Param({"simple", "weighted"})
+    public String provider;
+
+    private MoltenVentFeature feature;
+    private FeaturePlaceContext<MoltenVentConfiguration> context;
+    private RandomSource random;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Headless.bootstrap();
+        feature = new MoltenVentFeature(MoltenVentConfiguration.CODEC);
+        random = RandomSource.create(0L);
+        ArrayWorldGenLevel level = createLevel(underwater);
+        context = new FeaturePlaceContext<>(Optional.empty(), level.level(), null, random,
+                new BlockPos(SIZE / 2, SURFACE_Y, SIZE / 2), createConfiguration(depth, underwater, provider));
+    }
+
+    @Benchmark
+    public boolean place() {
+        random.setSeed(seed++);
+        return feature.place(context);
+    }
+
+    static ArrayWorldGenLevel createLevel(boolean underwater) {
+        ArrayWorldGenLevel level = new ArrayWorldGenLevel(SIZE, SIZE, MIN_Y, HEIGHT)
+                .fillLayers(MIN_Y, SURFACE_Y, Blocks.STONE.defaultBlockState());
+        if (underwater) {
+            level.fillLayers(SURFACE_Y, SURFACE_Y + 8, Blocks.WATER.defaultBlockState());
+        }
+        return level;
+    }
+
+    static MoltenVentConfiguration createConfiguration(int depth, boolean underwater, String provider) {
+        BlockStateProvider outer;
+        if ("weighted".equals(provider)) {
+            outer = new WeightedStateProvider(SimpleWeightedRandomList.<BlockState>builder()
+                    .add(Blocks.BASALT.defaultBlockState(), 3)
+                    .add(Blocks.BLACKSTONE.defaultBlockState(), 1));
+        } else {
+            outer = BlockStateProvider.simple(Blocks.BASALT);
+        }
+        return new MoltenVentConfiguration(
+                BlockStateProvider.simple(Blocks.MAGMA_BLOCK),
+                outer,
+                BlockStateProvider.simple(Blocks.MAGMA_BLOCK),
+                BlockStateProvider.simple(Blocks.LAVA),
+                ConstantInt.of(depth),
+                underwater,
+                false,
+                DimensionType.MIN_Y,
+                false);
+    }
+}
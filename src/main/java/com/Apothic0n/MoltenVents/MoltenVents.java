@@ -1,11 +1,23 @@
 package com.Apothic0n.MoltenVents;
 
+import com.Apothic0n.MoltenVents.activation.VentActivationEvents;
 import com.Apothic0n.MoltenVents.api.biome.features.MoltenVentsFeatures;
+import com.Apothic0n.MoltenVents.api.biome.features.MoltenVentsPlacements;
+import com.Apothic0n.MoltenVents.client.VentProgressClient;
+import com.Apothic0n.MoltenVents.client.VentProgressOverlay;
+import com.Apothic0n.MoltenVents.command.MoltenVentsCommands;
 import com.Apothic0n.MoltenVents.config.MoltenVentsActivationConfig;
+import com.Apothic0n.MoltenVents.config.VentActivationConfigWatcher;
+import com.Apothic0n.MoltenVents.metrics.VentPlacementExporter;
+import com.Apothic0n.MoltenVents.network.MoltenVentsNetwork;
+import com.Apothic0n.MoltenVents.worldgen.VentWorldgenEvents;
 import net.neoforged.bus.api.IEventBus;
+import net.neoforged.api.distmarker.Dist;
 import net.neoforged.fml.ModContainer;
 import net.neoforged.fml.common.Mod;
 import net.neoforged.fml.event.lifecycle.FMLLoadCompleteEvent;
+import net.neoforged.fml.loading.FMLEnvironment;
+import net.neoforged.neoforge.common.NeoForge;
 
 // The value here should match an entry in the META-INF/mods.toml file.
 @Mod("molten_vents")
@@ -15,9 +27,31 @@ public class MoltenVents
 
     public MoltenVents(IEventBus eventBus, ModContainer container) throws Exception {
         MoltenVentsFeatures.register(eventBus);
+        MoltenVentsPlacements.register(eventBus);
+        MoltenVentsNetwork.register(eventBus);
 
         // Load dormant→active vent activation config once everything has registered
         eventBus.addListener(this::onLoadComplete);
+        // Optional config file watcher, running only while a server is
+        VentActivationConfigWatcher.register(NeoForge.EVENT_BUS);
+
+        // Tracks blaze burners sitting on dormant vents and advances their activation
+        VentActivationEvents.register(NeoForge.EVENT_BUS);
+
+        // Client copy of activation progress, dropped with its chunks, and the HUD that shows it
+        VentProgressClient.register(NeoForge.EVENT_BUS);
+        if (FMLEnvironment.dist == Dist.CLIENT) {
+            VentProgressOverlay.register(eventBus);
+        }
+
+        // Per-level worldgen stores (deferred cross-chunk vent writes)
+        VentWorldgenEvents.register(NeoForge.EVENT_BUS);
+
+        // Optional JSON-lines export of placed vents
+        VentPlacementExporter.register(NeoForge.EVENT_BUS);
+
+        // /moltenvents admin commands
+        MoltenVentsCommands.register(NeoForge.EVENT_BUS);
     }
 
     private void onLoadComplete(FMLLoadCompleteEvent event) {
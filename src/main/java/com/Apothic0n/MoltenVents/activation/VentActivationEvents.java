@@ -0,0 +1,79 @@
+package com.Apothic0n.MoltenVents.activation;
+
+import com.Apothic0n.MoltenVents.config.MoltenVentsActivationConfig;
+import com.simibubi.create.content.processing.burner.BlazeBurnerBlock;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+/**
+ * Game-bus listeners that keep each level's {@link VentActivationTracker} populated and ticking.
+ */
+public class VentActivationEvents {
+
+    public static void register(IEventBus eventBus) {
+        eventBus.addListener(VentActivationEvents::onChunkLoad);
+        eventBus.addListener(VentActivationEvents::onChunkUnload);
+        eventBus.addListener(VentActivationEvents::onNeighborNotify);
+        eventBus.addListener(VentActivationEvents::onLevelTick);
+        eventBus.addListener(VentActivationEvents::onLevelUnload);
+        eventBus.addListener(VentActivationEvents::onTagsUpdated);
+    }
+
+    private static void onChunkLoad(ChunkEvent.Load event) {
+        if (event.getLevel() instanceof ServerLevel level && event.getChunk() instanceof LevelChunk chunk) {
+            VentActivationTracker.get(level).onChunkLoad(chunk);
+        }
+    }
+
+    private static void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            VentActivationTracker.get(level).onChunkUnload(event.getChunk().getPos());
+        }
+    }
+
+    /**
+     * A block changed: it may be a burner that was just placed, or a dormant vent that just
+     * appeared under one. Anything that stops qualifying is dropped by the tracker's own check.
+     */
+    private static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) return;
+
+        BlockState state = event.getState();
+        BlockPos pos = event.getPos();
+        if (state.getBlock() instanceof BlazeBurnerBlock) {
+            VentActivationTracker.get(level).checkBurner(pos.asLong());
+        } else if (MoltenVentsActivationConfig.current().getActiveState(state) != null) {
+            VentActivationTracker.get(level).checkBurner(BlockPos.offset(pos.asLong(), 0, 1, 0));
+        }
+    }
+
+    private static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            // Shows up as its own section in /debug and spark profiles
+            level.getProfiler().push("molten_vents_activation");
+            VentActivationTracker.get(level).tick();
+            level.getProfiler().pop();
+        }
+    }
+
+    /** Tag-based vent pairs are only known once the server's tags are bound, and change on /reload. */
+    private static void onTagsUpdated(TagsUpdatedEvent event) {
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD) {
+            MoltenVentsActivationConfig.refreshTags();
+        }
+    }
+
+    private static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            VentActivationTracker.remove(level);
+        }
+    }
+}
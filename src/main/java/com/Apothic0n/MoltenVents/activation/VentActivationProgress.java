@@ -0,0 +1,165 @@
+package com.Apothic0n.MoltenVents.activation;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMaps;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.saveddata.SavedData;
+
+/**
+ * Per-level activation progress, as game-time deadlines keyed by packed burner position.
+ *
+ * Nothing here changes while a burner heats up: progress is {@code deadline - gameTime}, worked
+ * out on demand, so heating burners never dirty their chunk or send block entity updates. The
+ * store itself is only marked dirty when a timer starts, stops or pauses.
+ *
+ * Timers in unloaded chunks are paused, like the old per-burner countdown: on unload the
+ * remaining ticks are kept and on load they become a new deadline. They are saved the same way,
+ * so progress survives restarts without depending on the saved game time.
+ *
+ * Each timer also keeps the number of ticks it was started with, so progress shown for a running
+ * timer does not change when a config reload changes {@code activationTicks}. Server thread only.
+ */
+public class VentActivationProgress extends SavedData {
+
+    private static final String DATA_NAME = "molten_vents_activation";
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final ServerLevel level;
+    /** Running timers in loaded chunks: burner position → game time of conversion. */
+    private final Long2LongOpenHashMap deadlines = new Long2LongOpenHashMap();
+    /** Timers in unloaded chunks: burner position → ticks still to go. */
+    private final Long2LongOpenHashMap paused = new Long2LongOpenHashMap();
+    /** Every timer, running or paused: burner position → total ticks it was started with. */
+    private final Long2IntOpenHashMap durations = new Long2IntOpenHashMap();
+
+    private VentActivationProgress(ServerLevel level) {
+        this.level = level;
+        deadlines.defaultReturnValue(NONE);
+        paused.defaultReturnValue(NONE);
+    }
+
+    public static VentActivationProgress get(ServerLevel level) {
+        return level.getDataStorage().computeIfAbsent(new SavedData.Factory<>(
+                () -> new VentActivationProgress(level),
+                (tag, registries) -> load(level, tag),
+                null), DATA_NAME);
+    }
+
+    // -------------------------------------------------------------------------
+    //  Timers
+    // -------------------------------------------------------------------------
+
+    /** The game time the burner at {@code burnerPos} converts its vent, or {@link Long#MIN_VALUE} if it is not heating one. */
+    public long deadline(long burnerPos) {
+        return deadlines.get(burnerPos);
+    }
+
+    public boolean isRunning(long burnerPos) {
+        return deadlines.containsKey(burnerPos);
+    }
+
+    /** Total ticks the timer of the burner at {@code burnerPos} was started with, or 0 if it has none. */
+    public int duration(long burnerPos) {
+        return durations.get(burnerPos);
+    }
+
+    /** Starts a timer that converts the vent {@code duration} ticks after {@code gameTime}. */
+    public void start(long burnerPos, long gameTime, int duration) {
+        deadlines.put(burnerPos, gameTime + duration);
+        durations.put(burnerPos, duration);
+        setDirty();
+    }
+
+    public void clear(long burnerPos) {
+        durations.remove(burnerPos);
+        if (deadlines.remove(burnerPos) != NONE | paused.remove(burnerPos) != NONE) {
+            setDirty();
+        }
+    }
+
+    /** Running timers in loaded chunks, burner position → deadline. Read-only view. */
+    public Long2LongMap running() {
+        return Long2LongMaps.unmodifiable(deadlines);
+    }
+
+    public int runningCount() {
+        return deadlines.size();
+    }
+
+    // -------------------------------------------------------------------------
+    //  Chunk lifecycle
+    // -------------------------------------------------------------------------
+
+    void pause(ChunkPos chunkPos) {
+        move(deadlines, paused, chunkPos.toLong(), -level.getGameTime());
+    }
+
+    void resume(ChunkPos chunkPos) {
+        move(paused, deadlines, chunkPos.toLong(), level.getGameTime());
+    }
+
+    /** Moves every entry in the chunk from one map to the other, adding {@code shift} to its value. */
+    private void move(Long2LongOpenHashMap from, Long2LongOpenHashMap to, long chunkKey, long shift) {
+        ObjectIterator<Long2LongMap.Entry> iterator = from.long2LongEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            Long2LongMap.Entry entry = iterator.next();
+            long pos = entry.getLongKey();
+            if (ChunkPos.asLong(BlockPos.getX(pos) >> 4, BlockPos.getZ(pos) >> 4) == chunkKey) {
+                to.put(pos, entry.getLongValue() + shift);
+                iterator.remove();
+                setDirty();
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    //  Persistence
+    // -------------------------------------------------------------------------
+
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        long now = level.getGameTime();
+        int size = deadlines.size() + paused.size();
+        long[] positions = new long[size];
+        long[] remaining = new long[size];
+        int[] totals = new int[size];
+        int i = 0;
+        for (Long2LongMap.Entry entry : deadlines.long2LongEntrySet()) {
+            positions[i] = entry.getLongKey();
+            totals[i] = durations.get(entry.getLongKey());
+            remaining[i++] = Math.max(0, entry.getLongValue() - now);
+        }
+        for (Long2LongMap.Entry entry : paused.long2LongEntrySet()) {
+            positions[i] = entry.getLongKey();
+            totals[i] = durations.get(entry.getLongKey());
+            remaining[i++] = entry.getLongValue();
+        }
+        tag.put("positions", new LongArrayTag(positions));
+        tag.put("remaining", new LongArrayTag(remaining));
+        tag.put("durations", new IntArrayTag(totals));
+        return tag;
+    }
+
+    /** Everything loads paused; chunk loads turn entries back into deadlines. */
+    private static VentActivationProgress load(ServerLevel level, CompoundTag tag) {
+        VentActivationProgress progress = new VentActivationProgress(level);
+        long[] positions = tag.getLongArray("positions");
+        long[] remaining = tag.getLongArray("remaining");
+        int[] durations = tag.getIntArray("durations");
+        int size = Math.min(positions.length, Math.min(remaining.length, durations.length));
+        for (int i = 0; i < size; i++) {
+            progress.paused.put(positions[i], remaining[i]);
+            progress.durations.put(positions[i], durations[i]);
+        }
+        return progress;
+    }
+}
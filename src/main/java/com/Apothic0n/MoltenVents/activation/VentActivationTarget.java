@@ -0,0 +1,24 @@
+package com.Apothic0n.MoltenVents.activation;
+
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Implemented on Create's blaze burner block entity by
+ * {@link com.Apothic0n.MoltenVents.mixin.BlazeBurnerActivationMixin}, so the
+ * {@link VentActivationTracker} can drive a burner without touching its tick.
+ */
+public interface VentActivationTarget {
+
+    /**
+     * Advances the burner's activation while it sits on a dormant vent: starts its timer, or
+     * converts the vent once the timer's deadline has passed.
+     *
+     * @param activeState the state the dormant vent below converts into
+     * @param gameTime    the level's current game time
+     * @return {@code true} if a conversion timer is still running afterwards
+     */
+    boolean moltenVents$advanceActivation(BlockState activeState, long gameTime);
+
+    /** Cancels any activation in progress, e.g. because the vent below is gone. */
+    void moltenVents$resetActivation();
+}
@@ -0,0 +1,280 @@
+package com.Apothic0n.MoltenVents.activation;
+
+import com.Apothic0n.MoltenVents.config.MoltenVentsActivationConfig;
+import com.Apothic0n.MoltenVents.config.VentActivationSnapshot;
+import com.Apothic0n.MoltenVents.network.VentProgressPayload;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Per-level set of blaze burners that currently sit on a configured dormant vent.
+ *
+ * Burners are only added when something could have made them a candidate: their chunk loading,
+ * or a block change at the burner or directly below it (see {@link VentActivationEvents}).
+ * Every {@link VentActivationSnapshot#checkInterval()} ticks the tracker re-validates each
+ * candidate and advances it; burners that no longer qualify are dropped. Burners that never sit
+ * on a vent cost nothing per tick. A pass also runs on the tick the earliest running timer is due,
+ * so a vent converts exactly {@code activationTicks} after its timer started, not up to
+ * {@code checkInterval - 1} ticks later. Starting a timer is still only noticed by a pass.
+ *
+ * All burners seen at chunk load or placement are remembered (positions only), so when a new
+ * config snapshot is published they can be re-checked against the new vent pairs.
+ *
+ * Only touched from the server thread.
+ */
+public class VentActivationTracker {
+
+    private static final Map<ServerLevel, VentActivationTracker> TRACKERS = new IdentityHashMap<>();
+
+    private final ServerLevel level;
+    private final LongOpenHashSet candidates = new LongOpenHashSet();
+    /** Every blaze burner seen in loaded chunks, candidate or not. */
+    private final LongOpenHashSet burners = new LongOpenHashSet();
+    /** Positions reported while {@link #tick()} is iterating, merged afterwards. */
+    private final LongArrayList deferredChecks = new LongArrayList();
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+    /** Chunks that had running timers in the last progress sync, so clients can be told when they stop. */
+    private final LongOpenHashSet syncedChunks = new LongOpenHashSet();
+
+    private boolean ticking;
+    private int ticksSinceCheck;
+    private int ticksSinceSync;
+    /** Earliest deadline among candidates' running timers, so a pass runs when it is due. */
+    private long nextDeadline = Long.MAX_VALUE;
+    /** Candidates whose conversion timer was counting down after the last check pass. */
+    private int runningTimers;
+    private VentActivationSnapshot lastConfig;
+
+    private VentActivationTracker(ServerLevel level) {
+        this.level = level;
+    }
+
+    public static VentActivationTracker get(ServerLevel level) {
+        return TRACKERS.computeIfAbsent(level, VentActivationTracker::new);
+    }
+
+    static void remove(ServerLevel level) {
+        TRACKERS.remove(level);
+    }
+
+    public int candidateCount() {
+        return candidates.size();
+    }
+
+    public int runningTimerCount() {
+        return runningTimers;
+    }
+
+    /** Candidate burners across every loaded level. Server thread only. */
+    public static int totalCandidateCount() {
+        int total = 0;
+        for (VentActivationTracker tracker : TRACKERS.values()) {
+            total += tracker.candidateCount();
+        }
+        return total;
+    }
+
+    /** Running conversion timers across every loaded level. Server thread only. */
+    public static int totalRunningTimerCount() {
+        int total = 0;
+        for (VentActivationTracker tracker : TRACKERS.values()) {
+            total += tracker.runningTimers;
+        }
+        return total;
+    }
+
+    // -------------------------------------------------------------------------
+    //  Population
+    // -------------------------------------------------------------------------
+
+    /** Adds the burner at {@code burnerPos} if it is a blaze burner sitting on a dormant vent. */
+    public void checkBurner(long burnerPos) {
+        if (ticking) {
+            deferredChecks.add(burnerPos);
+            return;
+        }
+        if (!(level.getBlockEntity(cursor.set(burnerPos)) instanceof VentActivationTarget)) {
+            burners.remove(burnerPos);
+            VentActivationProgress.get(level).clear(burnerPos);
+            return;
+        }
+        burners.add(burnerPos);
+        if (activeStateBelow(MoltenVentsActivationConfig.current(), burnerPos) != null) {
+            candidates.add(burnerPos);
+            // A timer resumed with its chunk may be due before the next regular pass
+            scheduleDeadline(VentActivationProgress.get(level).deadline(burnerPos));
+        } else {
+            VentActivationProgress.get(level).clear(burnerPos);
+        }
+    }
+
+    void onChunkLoad(LevelChunk chunk) {
+        VentActivationProgress.get(level).resume(chunk.getPos());
+        for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+            if (blockEntity instanceof VentActivationTarget) {
+                checkBurner(blockEntity.getBlockPos().asLong());
+            }
+        }
+    }
+
+    void onChunkUnload(ChunkPos chunkPos) {
+        VentActivationProgress.get(level).pause(chunkPos);
+        long chunkKey = chunkPos.toLong();
+        removeInChunk(candidates, chunkKey);
+        removeInChunk(burners, chunkKey);
+        syncedChunks.remove(chunkKey);
+    }
+
+    private static void removeInChunk(LongOpenHashSet positions, long chunkKey) {
+        LongIterator iterator = positions.iterator();
+        while (iterator.hasNext()) {
+            long pos = iterator.nextLong();
+            if (ChunkPos.asLong(BlockPos.getX(pos) >> 4, BlockPos.getZ(pos) >> 4) == chunkKey) {
+                iterator.remove();
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    //  Scheduling
+    // -------------------------------------------------------------------------
+
+    void tick() {
+        VentActivationSnapshot config = MoltenVentsActivationConfig.current();
+        if (config != lastConfig) {
+            // Config was (re)loaded — vent pairs may have changed under burners we already know
+            lastConfig = config;
+            for (long burnerPos : burners.toLongArray()) {
+                checkBurner(burnerPos);
+            }
+        }
+        syncProgress(config);
+        int interval = config.checkInterval();
+        long gameTime = level.getGameTime();
+        if (++ticksSinceCheck < interval && gameTime < nextDeadline) {
+            return;
+        }
+        ticksSinceCheck = 0;
+        nextDeadline = Long.MAX_VALUE;
+
+        int running = 0;
+        VentActivationProgress progress = VentActivationProgress.get(level);
+        ticking = true;
+        try {
+            LongIterator iterator = candidates.iterator();
+            while (iterator.hasNext()) {
+                long burnerPos = iterator.nextLong();
+                BlockEntity blockEntity = level.getBlockEntity(cursor.set(burnerPos));
+                if (!(blockEntity instanceof VentActivationTarget target)) {
+                    VentActivationProgress.get(level).clear(burnerPos);
+                    iterator.remove();
+                    continue;
+                }
+                BlockState activeState = activeStateBelow(config, burnerPos);
+                if (activeState == null) {
+                    target.moltenVents$resetActivation();
+                    iterator.remove();
+                    continue;
+                }
+                if (target.moltenVents$advanceActivation(activeState, gameTime)) {
+                    running++;
+                    scheduleDeadline(progress.deadline(burnerPos));
+                }
+            }
+        } finally {
+            ticking = false;
+        }
+        runningTimers = running;
+
+        for (int i = 0; i < deferredChecks.size(); i++) {
+            checkBurner(deferredChecks.getLong(i));
+        }
+        deferredChecks.clear();
+    }
+
+    /** Makes sure a pass runs by {@code deadline}; ignores {@link Long#MIN_VALUE}, meaning no running timer. */
+    private void scheduleDeadline(long deadline) {
+        if (deadline != Long.MIN_VALUE && deadline < nextDeadline) {
+            nextDeadline = deadline;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    //  Client sync
+    // -------------------------------------------------------------------------
+
+    /**
+     * Every {@link VentActivationSnapshot#progressSyncInterval()} ticks, sends each chunk's running
+     * timers as one {@link VentProgressPayload} to the players tracking that chunk, plus an empty
+     * payload for chunks whose timers have all stopped since the last sync.
+     */
+    private void syncProgress(VentActivationSnapshot config) {
+        int interval = config.progressSyncInterval();
+        if (interval <= 0 || ++ticksSinceSync < interval) {
+            return;
+        }
+        ticksSinceSync = 0;
+        VentActivationProgress progress = VentActivationProgress.get(level);
+        Long2LongMap running = progress.running();
+        if (running.isEmpty() && syncedChunks.isEmpty()) {
+            return;
+        }
+
+        Long2ObjectOpenHashMap<LongArrayList> byChunk = new Long2ObjectOpenHashMap<>();
+        for (Long2LongMap.Entry entry : running.long2LongEntrySet()) {
+            long pos = entry.getLongKey();
+            long chunkKey = ChunkPos.asLong(BlockPos.getX(pos) >> 4, BlockPos.getZ(pos) >> 4);
+            LongArrayList positions = byChunk.get(chunkKey);
+            if (positions == null) {
+                positions = new LongArrayList();
+                byChunk.put(chunkKey, positions);
+            }
+            positions.add(pos);
+        }
+
+        long gameTime = level.getGameTime();
+        for (Long2ObjectMap.Entry<LongArrayList> entry : byChunk.long2ObjectEntrySet()) {
+            LongArrayList positions = entry.getValue();
+            int[] packed = new int[positions.size()];
+            int[] remaining = new int[positions.size()];
+            int[] totals = new int[positions.size()];
+            for (int i = 0; i < positions.size(); i++) {
+                long pos = positions.getLong(i);
+                packed[i] = VentProgressPayload.packLocal(BlockPos.getX(pos), BlockPos.getY(pos), BlockPos.getZ(pos));
+                remaining[i] = (int) Math.max(0, running.get(pos) - gameTime);
+                totals[i] = progress.duration(pos);
+            }
+            PacketDistributor.sendToPlayersTrackingChunk(level, new ChunkPos(entry.getLongKey()),
+                    new VentProgressPayload(entry.getLongKey(), packed, remaining, totals));
+        }
+        LongIterator stopped = syncedChunks.iterator();
+        while (stopped.hasNext()) {
+            long chunkKey = stopped.nextLong();
+            if (!byChunk.containsKey(chunkKey)) {
+                PacketDistributor.sendToPlayersTrackingChunk(level, new ChunkPos(chunkKey),
+                        new VentProgressPayload(chunkKey, new int[0], new int[0], new int[0]));
+            }
+        }
+        syncedChunks.clear();
+        syncedChunks.addAll(byChunk.keySet());
+    }
+
+    private BlockState activeStateBelow(VentActivationSnapshot config, long burnerPos) {
+        return config.getActiveState(level.getBlockState(cursor.set(BlockPos.offset(burnerPos, 0, -1, 0))));
+    }
+}
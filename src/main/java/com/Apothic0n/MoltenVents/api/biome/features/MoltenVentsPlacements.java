@@ -0,0 +1,21 @@
+package com.Apothic0n.MoltenVents.api.biome.features;
+
+import com.Apothic0n.MoltenVents.MoltenVents;
+import com.Apothic0n.MoltenVents.api.biome.features.placements.VentGridPlacement;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.registries.DeferredHolder;
+import net.neoforged.neoforge.registries.DeferredRegister;
+
+public class MoltenVentsPlacements {
+
+    public static final DeferredRegister<PlacementModifierType<?>> PLACEMENT_MODIFIERS = DeferredRegister.create(Registries.PLACEMENT_MODIFIER_TYPE, MoltenVents.MODID);
+
+    public static final DeferredHolder<PlacementModifierType<?>, PlacementModifierType<VentGridPlacement>> VENT_GRID = PLACEMENT_MODIFIERS.register("vent_grid", () ->
+            () -> VentGridPlacement.CODEC);
+
+    public static void register(IEventBus eventBus) {
+        PLACEMENT_MODIFIERS.register(eventBus);
+    }
+}
@@ -3,6 +3,7 @@ package com.Apothic0n.MoltenVents.api.biome.features.configurations;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.util.valueproviders.IntProvider;
+import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.levelgen.feature.configurations.FeatureConfiguration;
 import net.minecraft.world.level.levelgen.feature.stateproviders.BlockStateProvider;
 
@@ -20,6 +21,12 @@ public class MoltenVentConfiguration implements FeatureConfiguration {
             return v.depth;
         }), Codec.BOOL.fieldOf("underwater").orElse(false).forGetter((v) -> {
             return v.underwater;
+        }), Codec.BOOL.fieldOf("fluidStable").orElse(false).forGetter((v) -> {
+            return v.fluidStable;
+        }), Codec.INT.fieldOf("floorY").orElse(DimensionType.MIN_Y).forGetter((v) -> {
+            return v.floorY;
+        }), Codec.BOOL.fieldOf("skipEmptySections").orElse(false).forGetter((v) -> {
+            return v.skipEmptySections;
         })).apply(fields, MoltenVentConfiguration::new);
     });
 
@@ -29,14 +36,33 @@ public class MoltenVentConfiguration implements FeatureConfiguration {
     private final BlockStateProvider liquidBlock;
     private final IntProvider depth;
     public final Boolean underwater;
+    /** Seal every liquid cell that could flow out with {@link #getOuterBlock()}, so the vent never leaks into caves. */
+    public final Boolean fluidStable;
+    /** Lowest Y the shaft may reach; the world's minimum build height applies as well. */
+    public final Integer floorY;
+    /** Leave out the parts of the shaft that fall in all-air sections (large caves), continuing below them. */
+    public final Boolean skipEmptySections;
 
-    public MoltenVentConfiguration(BlockStateProvider decorativeBlock, BlockStateProvider outerBlock, BlockStateProvider innerBlock, BlockStateProvider liquidBlock, IntProvider depth, Boolean underwater) {
+    // Resolved once at decode time, see VentStateSource
+    private final VentStateSource decorativeSource;
+    private final VentStateSource outerSource;
+    private final VentStateSource innerSource;
+    private final VentStateSource liquidSource;
+
+    public MoltenVentConfiguration(BlockStateProvider decorativeBlock, BlockStateProvider outerBlock, BlockStateProvider innerBlock, BlockStateProvider liquidBlock, IntProvider depth, Boolean underwater, Boolean fluidStable, Integer floorY, Boolean skipEmptySections) {
         this.decorativeBlock = decorativeBlock;
         this.outerBlock = outerBlock;
         this.innerBlock = innerBlock;
         this.liquidBlock = liquidBlock;
         this.depth = depth;
         this.underwater = underwater;
+        this.fluidStable = fluidStable;
+        this.floorY = floorY;
+        this.skipEmptySections = skipEmptySections;
+        this.decorativeSource = new VentStateSource(decorativeBlock);
+        this.outerSource = new VentStateSource(outerBlock);
+        this.innerSource = new VentStateSource(innerBlock);
+        this.liquidSource = new VentStateSource(liquidBlock);
     }
 
     public BlockStateProvider getDecorativeBlock() {
@@ -52,4 +78,17 @@ public class MoltenVentConfiguration implements FeatureConfiguration {
         return this.liquidBlock;
     }
     public IntProvider getDepth() {return this.depth;}
+
+    public VentStateSource getDecorativeSource() {
+        return this.decorativeSource;
+    }
+    public VentStateSource getOuterSource() {
+        return this.outerSource;
+    }
+    public VentStateSource getInnerSource() {
+        return this.innerSource;
+    }
+    public VentStateSource getLiquidSource() {
+        return this.liquidSource;
+    }
 }
\ No newline at end of file
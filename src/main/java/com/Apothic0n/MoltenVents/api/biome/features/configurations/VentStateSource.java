@@ -0,0 +1,44 @@
+package com.Apothic0n.MoltenVents.api.biome.features.configurations;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.feature.stateproviders.BlockStateProvider;
+import net.minecraft.world.level.levelgen.feature.stateproviders.SimpleStateProvider;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link BlockStateProvider} resolved once when its {@link MoltenVentConfiguration} is decoded.
+ *
+ * Nearly every datapack vent uses {@link SimpleStateProvider}s, which always return the same
+ * state and never touch the random. For those {@link #getState} returns the pre-resolved state
+ * straight from a final field; other providers (weighted, noise, ...) are still called as before,
+ * so the random sequence and the generated vent are unchanged either way.
+ */
+public final class VentStateSource {
+
+    private final BlockStateProvider provider;
+    @Nullable
+    private final BlockState constant;
+
+    VentStateSource(BlockStateProvider provider) {
+        this.provider = provider;
+        this.constant = provider instanceof SimpleStateProvider ? provider.getState(RandomSource.create(0L), BlockPos.ZERO) : null;
+    }
+
+    public BlockState getState(RandomSource random, BlockPos pos) {
+        BlockState state = constant;
+        return state != null ? state : provider.getState(random, pos);
+    }
+
+    /** The state this source always returns, or {@code null} if it depends on the position or random. */
+    @Nullable
+    public BlockState getConstant() {
+        return constant;
+    }
+
+    public BlockStateProvider getProvider() {
+        return provider;
+    }
+}
@@ -0,0 +1,90 @@
+package com.Apothic0n.MoltenVents.api.biome.features.placements;
+
+import com.Apothic0n.MoltenVents.api.biome.features.MoltenVentsPlacements;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.MapCodec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.levelgen.placement.PlacementContext;
+import net.minecraft.world.level.levelgen.placement.PlacementModifier;
+import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
+
+import java.util.stream.Stream;
+
+/**
+ * Keeps at most one vent per {@code spacing}×{@code spacing} chunk cell.
+ *
+ * The chosen chunk of each cell is a pure hash of the world seed, the cell coordinates, the
+ * configured {@code salt} and the dimension, so every chunk knows in constant time whether it is
+ * its cell's vent chunk, without sampling or looking at neighbours. Within a cell the chunk is
+ * picked from the first {@code spacing - separation} chunks on each axis, so vents in adjacent
+ * cells are always at least {@code separation} chunks apart (the same scheme vanilla uses to
+ * spread structures).
+ *
+ * Usage in a placed feature, before the in-chunk modifiers:
+ * {@code {"type": "molten_vents:vent_grid", "spacing": 8, "separation": 3, "salt": 1337}}
+ */
+public class VentGridPlacement extends PlacementModifier {
+    public static final MapCodec<VentGridPlacement> CODEC = RecordCodecBuilder.<VentGridPlacement>mapCodec((fields) -> {
+        return fields.group(Codec.intRange(1, 4096).fieldOf("spacing").forGetter((v) -> {
+            return v.spacing;
+        }), Codec.intRange(0, 4095).fieldOf("separation").orElse(0).forGetter((v) -> {
+            return v.separation;
+        }), Codec.INT.fieldOf("salt").orElse(0).forGetter((v) -> {
+            return v.salt;
+        })).apply(fields, VentGridPlacement::new);
+    }).validate(VentGridPlacement::validate);
+
+    private final int spacing;
+    private final int separation;
+    private final int salt;
+
+    public VentGridPlacement(int spacing, int separation, int salt) {
+        this.spacing = spacing;
+        this.separation = separation;
+        this.salt = salt;
+    }
+
+    private static DataResult<VentGridPlacement> validate(VentGridPlacement placement) {
+        if (placement.separation >= placement.spacing) {
+            return DataResult.error(() -> "Vent grid separation (" + placement.separation
+                    + ") must be smaller than spacing (" + placement.spacing + ")");
+        }
+        return DataResult.success(placement);
+    }
+
+    @Override
+    public Stream<BlockPos> getPositions(PlacementContext context, RandomSource random, BlockPos pos) {
+        int chunkX = SectionPos.blockToSectionCoord(pos.getX());
+        int chunkZ = SectionPos.blockToSectionCoord(pos.getZ());
+        long seed = context.getLevel().getSeed() ^ salt
+                ^ (long) context.getLevel().getLevel().dimension().location().hashCode() << 32;
+        return isVentChunk(seed, chunkX, chunkZ) ? Stream.of(pos) : Stream.empty();
+    }
+
+    /** Whether {@code (chunkX, chunkZ)} is the chosen chunk of its cell for {@code seed}. */
+    private boolean isVentChunk(long seed, int chunkX, int chunkZ) {
+        int cellX = Math.floorDiv(chunkX, spacing);
+        int cellZ = Math.floorDiv(chunkZ, spacing);
+        long hash = mix(seed + cellX * 341873128712L + cellZ * 132897987541L);
+        int range = spacing - separation;
+        int offsetX = (int) Math.floorMod(hash, (long) range);
+        int offsetZ = (int) Math.floorMod(hash >>> 32, (long) range);
+        return chunkX == cellX * spacing + offsetX && chunkZ == cellZ * spacing + offsetZ;
+    }
+
+    /** SplitMix64 finalizer: spreads every input bit over the whole result. */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    @Override
+    public PlacementModifierType<?> type() {
+        return MoltenVentsPlacements.VENT_GRID.get();
+    }
+}
@@ -1,21 +1,54 @@
 package com.Apothic0n.MoltenVents.api.biome.features.types;
 
 import com.Apothic0n.MoltenVents.api.biome.features.configurations.MoltenVentConfiguration;
+import com.Apothic0n.MoltenVents.api.biome.features.configurations.VentStateSource;
+import com.Apothic0n.MoltenVents.metrics.MoltenVentsMetrics;
+import com.Apothic0n.MoltenVents.metrics.VentPlacementEvent;
+import com.Apothic0n.MoltenVents.metrics.VentPlacementExporter;
+import com.Apothic0n.MoltenVents.worldgen.VentFluidTicks;
+import com.Apothic0n.MoltenVents.worldgen.VentIndex;
 import com.mojang.serialization.Codec;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.RandomSource;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
-import net.minecraft.world.level.levelgen.feature.stateproviders.BlockStateProvider;
+import net.minecraft.world.level.material.FluidState;
 
 import javax.annotation.Nullable;
 
 import static net.minecraft.world.level.block.Block.UPDATE_ALL;
+import static net.minecraft.world.level.block.Block.UPDATE_CLIENTS;
 
+/**
+ * Places a molten vent: a ring of outer blocks around a liquid shaft.
+ *
+ * Thread safety: {@link #place} is called concurrently from every worldgen thread (and from
+ * parallel chunk-generation mods), so the feature keeps no per-placement state of its own.
+ * All randomness comes from the context's {@link RandomSource}, never a shared generator.
+ * The only statics are thread-confined ({@link #BUFFERS}), immutable ({@link VentTemplate}
+ * instances and the offset tables) or lock-free ({@link MoltenVentsMetrics},
+ * {@link VentPlacementExporter}).
+ * Given the same level contents, configuration and seed, a placement writes the same blocks
+ * on any thread. {@code ConcurrentPlacementHarness} in the jmh source set checks this.
+ */
 public class MoltenVentFeature extends Feature<MoltenVentConfiguration> {
+
+    /** Reused per worldgen thread so placement does not allocate a fresh buffer each call. Never shared between threads. */
+    private static final ThreadLocal<VentBlockBuffer> BUFFERS = ThreadLocal.withInitial(VentBlockBuffer::new);
+
+    /** Decoration offsets, indexed by a 0..14 roll: 7 of 15 go up, the rest to the 8 horizontal neighbours. */
+    private static final int[] OFFSET_X = {0, 0, 0, 0, 0, 0, 0, 0, 1, 0, -1, 1, -1, 1, -1};
+    private static final int[] OFFSET_Y = {1, 1, 1, 1, 1, 1, 1, 0, 0, 0, 0, 0, 0, 0, 0};
+    private static final int[] OFFSET_Z = {0, 0, 0, 0, 0, 0, 0, -1, 0, 1, 0, -1, -1, 1, 1};
+
     public MoltenVentFeature(Codec<MoltenVentConfiguration> pContext) {
         super(pContext);
     }
@@ -25,154 +58,185 @@ public class MoltenVentFeature extends Feature<MoltenVentConfiguration> {
         RandomSource random = pContext.random();
         BlockPos origin = pContext.origin();
         WorldGenLevel worldGenLevel = pContext.level();
-        BlockStateProvider decorativeBlock = ventConfiguration.getDecorativeBlock();
-        BlockStateProvider outerBlock = ventConfiguration.getOuterBlock();
-        BlockStateProvider innerBlock = ventConfiguration.getInnerBlock();
-        BlockStateProvider liquidBlock = ventConfiguration.getLiquidBlock();
-        Boolean underwater = ventConfiguration.underwater;
-
-        int depth = ventConfiguration.getDepth().sample(random);
-        boolean suitableEnvironment = false;
-
-        if (depth > 80 && underwater) {
-            depth = 80;
+        VentStateSource decorativeBlock = ventConfiguration.getDecorativeSource();
+        VentStateSource outerBlock = ventConfiguration.getOuterSource();
+        VentStateSource innerBlock = ventConfiguration.getInnerSource();
+        VentStateSource liquidBlock = ventConfiguration.getLiquidSource();
+        boolean underwater = ventConfiguration.underwater;
+        VentBlockBuffer buffer = BUFFERS.get().begin(worldGenLevel);
+        BlockPos.MutableBlockPos cursor = buffer.cursor;
+        VentPlacementEvent event = buffer.placementEvent();
+        ProfilerFiller profiler = serverThreadProfiler(worldGenLevel);
+        if (profiler != null) {
+            profiler.push("molten_vents_place");
         }
+        event.begin();
+        long startNanos = System.nanoTime();
+        String rejection = null;
+        int depth = 0;
+        int written = 0;
 
-        if (underwater && worldGenLevel.getBlockState(origin.above(2)).is(Blocks.WATER)) {
-            suitableEnvironment = true;
-        } else if (!underwater && !worldGenLevel.getBlockState(origin.below()).is(Blocks.WATER)) {
-            suitableEnvironment = true;
-        }
+        try {
+            depth = ventConfiguration.getDepth().sample(random);
 
-        if (suitableEnvironment && worldGenLevel.getBlockState(origin.below()).isSolid()) {
-            placePartialDiagonal(worldGenLevel, random, origin.above(), outerBlock, 3, 0.8, decorativeBlock);
-            placeDiagonal(worldGenLevel, random, origin.above(), outerBlock, 3, 3, 0.66, decorativeBlock);
-            placePartialDiagonal(worldGenLevel, random, origin, outerBlock, 3, 0.7, decorativeBlock);
-            placeStraight(worldGenLevel, random, origin, outerBlock, 3, 3, 1, decorativeBlock);
-            placeDiagonal(worldGenLevel, random, origin, outerBlock, 0, 3, 1.6, null);
-            placeStraight(worldGenLevel, random, origin.below(), outerBlock, 3, 3, 1, null);
-            placeDiagonal(worldGenLevel, random, origin.below(), outerBlock, 0, 3, 1.6, null);
-            if (depth > 10) {
-                for (int y = 1; y <= (depth / 2) + 1; y++) {
-                    placeStraight(worldGenLevel, random, origin.below(y), outerBlock, 0, 2, 0.8, null);
-                    placeDiagonal(worldGenLevel, random, origin.below(y), outerBlock, 0, 2, 0.75, null);
-                    placeBlock(worldGenLevel, random, origin.below(y), liquidBlock, 1, null);
+            if (underwater) {
+                if (!worldGenLevel.getBlockState(cursor.setWithOffset(origin, 0, 2, 0)).is(Blocks.WATER)) {
+                    rejection = VentPlacementEvent.REJECT_NO_WATER_ABOVE;
                 }
+            } else if (worldGenLevel.getBlockState(cursor.setWithOffset(origin, 0, -1, 0)).is(Blocks.WATER)) {
+                rejection = VentPlacementEvent.REJECT_WATER_BELOW;
+            }
+            if (rejection == null && !worldGenLevel.getBlockState(cursor.setWithOffset(origin, 0, -1, 0)).isSolid()) {
+                rejection = VentPlacementEvent.REJECT_NOT_SOLID;
+            }
 
-                for (int y = (depth / 2) + 2; y <= depth + 1; y++) {
-                    placeStraight(worldGenLevel, random, origin.below(y), outerBlock, 0, 1, 0.33, null);
-                    placeDiagonal(worldGenLevel, random, origin.below(y), outerBlock, 0, 1, 0.275, null);
-                    placeBlock(worldGenLevel, random, origin.below(y), liquidBlock, 1, null);
+            if (rejection == null) {
+                depth = clipDepth(worldGenLevel, origin, depth, ventConfiguration.floorY);
+                if (ventConfiguration.skipEmptySections) {
+                    skipEmptySections(buffer, worldGenLevel, origin, depth);
                 }
-            }
-            if (underwater) {
-                worldGenLevel.setBlock(origin, Blocks.WATER.defaultBlockState(), UPDATE_ALL);
+                VentTemplate template = VentTemplate.get(depth, underwater);
+                BlockState clearState = underwater ? Blocks.WATER.defaultBlockState() : Blocks.AIR.defaultBlockState();
+                long originPos = origin.asLong();
+                int[] offsets = template.offsets;
+                int[] thresholds = template.thresholds;
+                byte[] roles = template.roles;
+                for (int i = 0; i < template.size; i++) {
+                    int packed = offsets[i];
+                    long pos = BlockPos.offset(originPos, VentTemplate.unpackX(packed), VentTemplate.unpackY(packed), VentTemplate.unpackZ(packed));
+                    switch (roles[i]) {
+                        case VentTemplate.ROLE_OUTER -> placeBlock(buffer, random, pos, outerBlock, thresholds[i], null, 0);
+                        case VentTemplate.ROLE_DECORATED -> placeBlock(buffer, random, pos, outerBlock, thresholds[i], decorativeBlock, template.decorateThresholds[i]);
+                        case VentTemplate.ROLE_LIQUID -> placeBlock(buffer, random, pos, liquidBlock, thresholds[i], null, 0);
+                        case VentTemplate.ROLE_CLEAR -> buffer.setBlock(pos, clearState);
+                        default -> buffer.setBlock(pos, innerBlock.getState(random, cursor.set(pos)));
+                    }
+                }
+                if (ventConfiguration.fluidStable) {
+                    sealLiquid(buffer, random, template, originPos, outerBlock);
+                }
+                // Neighbour and shape updates mean nothing before the chunk is loaded; fluids get ticks from the buffer.
+                // Retrogen places into the live level, where neighbours have to react like to any other change.
+                written = buffer.flush(worldGenLevel instanceof ServerLevel ? UPDATE_ALL : UPDATE_CLIENTS);
+                VentIndex.record(worldGenLevel, origin, pContext.topFeature());
+                return true;
             } else {
-                worldGenLevel.setBlock(origin, Blocks.AIR.defaultBlockState(), UPDATE_ALL);
+                return false;
+            }
+        } finally {
+            buffer.discard();
+            long nanos = System.nanoTime() - startNanos;
+            MoltenVentsMetrics.recordPlacement(rejection == null, written, nanos);
+            if (rejection == null && VentPlacementExporter.isRunning()) {
+                VentPlacementExporter.record(worldGenLevel.getLevel().dimension(), origin, depth, underwater, written, nanos);
+            }
+            if (event.shouldCommit()) {
+                event.chunkX = SectionPos.blockToSectionCoord(origin.getX());
+                event.chunkZ = SectionPos.blockToSectionCoord(origin.getZ());
+                event.depth = depth;
+                event.underwater = underwater;
+                event.blocks = written;
+                event.rejectionReason = rejection;
+                event.commit();
+                buffer.placementEventCommitted();
+            }
+            if (profiler != null) {
+                profiler.pop();
             }
-            worldGenLevel.setBlock(origin.below(), innerBlock.getState(random, origin.below()), UPDATE_ALL);
-            return true;
-        } else {
-            return false;
         }
     }
 
-    private void placeStraight(WorldGenLevel worldGenLevel, RandomSource random, BlockPos blockPos, BlockStateProvider blockStateProvider, int minRadius, int maxRadius, double probability, @Nullable BlockStateProvider decorate) {
-        minRadius--;
-        for (int radius = minRadius; radius < maxRadius; radius++) {
-            placeBlock(worldGenLevel, random, blockPos.north(radius), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.east(radius), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.south(radius), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.west(radius), blockStateProvider, probability, decorate);
-        }
+    /**
+     * The server's profiler when placing into the live level on the server thread (retrogen,
+     * {@code /place}), otherwise {@code null}. Worldgen threads must not touch it: the profiler is
+     * a single unsynchronized stack owned by the server thread, so placements there are only
+     * covered by the JFR event and {@link MoltenVentsMetrics}.
+     */
+    @Nullable
+    private static ProfilerFiller serverThreadProfiler(WorldGenLevel level) {
+        return level instanceof ServerLevel serverLevel && serverLevel.getServer().isSameThread() ? serverLevel.getProfiler() : null;
     }
-    private void placeDiagonal(WorldGenLevel worldGenLevel, RandomSource random, BlockPos blockPos, BlockStateProvider blockStateProvider, int minRadius, int maxRadius, double probability, @Nullable BlockStateProvider decorate) {
-        minRadius--;
-        for (int radius = minRadius; radius < maxRadius; radius++) {
-            placeBlock(worldGenLevel, random, blockPos.north(radius).east(), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.north(radius).west(), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.south(radius).west(), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.south(radius).east(), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.north().east(radius), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.north().west(radius), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.south().west(radius), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.south().east(radius), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.north(radius).east(radius), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.north(radius).west(radius), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.south(radius).west(radius), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.south(radius).east(radius), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.north(radius).east(radius), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.north(radius).west(radius), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.south(radius).west(radius), blockStateProvider, probability, decorate);
-            placeBlock(worldGenLevel, random, blockPos.south(radius).east(radius), blockStateProvider, probability, decorate);
-        }
-    }
-    private void placePartialDiagonal(WorldGenLevel worldGenLevel, RandomSource random, BlockPos blockPos, BlockStateProvider blockStateProvider, int radius, double probability, @Nullable BlockStateProvider decorate) {
-        placeBlock(worldGenLevel, random, blockPos.north(radius).east(), blockStateProvider, probability, decorate);
-        placeBlock(worldGenLevel, random, blockPos.north(radius).west(), blockStateProvider, probability, decorate);
-        placeBlock(worldGenLevel, random, blockPos.south(radius).west(), blockStateProvider, probability, decorate);
-        placeBlock(worldGenLevel, random, blockPos.south(radius).east(), blockStateProvider, probability, decorate);
-        placeBlock(worldGenLevel, random, blockPos.north().east(radius), blockStateProvider, probability, decorate);
-        placeBlock(worldGenLevel, random, blockPos.north().west(radius), blockStateProvider, probability, decorate);
-        placeBlock(worldGenLevel, random, blockPos.south().west(radius), blockStateProvider, probability, decorate);
-        placeBlock(worldGenLevel, random, blockPos.south().east(radius), blockStateProvider, probability, decorate);
+
+    /**
+     * Shortens the shaft so it stays above the world bottom and {@code floorY}. The template's
+     * lowest cell is at {@code -(depth + 1)}.
+     */
+    static int clipDepth(WorldGenLevel level, BlockPos origin, int depth, int floorY) {
+        int floor = Math.max(level.getMinBuildHeight(), floorY);
+        return Math.max(0, Math.min(depth, origin.getY() - floor - 1));
     }
-    private void placeBlock(WorldGenLevel worldGenLevel, RandomSource random, BlockPos blockPos, BlockStateProvider blockStateProvider, double probability, @Nullable BlockStateProvider decorate) {
-        boolean passedProbability = false;
-        if (probability >= 1) {
-            passedProbability = true;
-        } else {
-            int randomNumber = (int)(Math.random()*((100))+1);
-            if (randomNumber < probability*100) {
-                passedProbability = true;
+
+    /**
+     * Marks every all-air section of the origin's chunk that the shaft passes through, so the
+     * buffer leaves those cells out: a shaft there would only pour lava into a large cave, and
+     * writing would allocate the section. Solid sections below are still written, so the shaft
+     * keeps its full depth. Levels that cannot hand out the chunk mark nothing.
+     */
+    private static void skipEmptySections(VentBlockBuffer buffer, WorldGenLevel level, BlockPos origin, int depth) {
+        ChunkAccess chunk = level.getChunk(SectionPos.blockToSectionCoord(origin.getX()), SectionPos.blockToSectionCoord(origin.getZ()),
+                ChunkStatus.EMPTY, false);
+        if (chunk == null) {
+            return;
+        }
+        int bottomSection = SectionPos.blockToSectionCoord(origin.getY() - depth - 1);
+        for (int sectionY = SectionPos.blockToSectionCoord(origin.getY() - 1); sectionY >= bottomSection; sectionY--) {
+            if (chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY)).hasOnlyAir()) {
+                buffer.skipSection(sectionY);
             }
         }
-        if (passedProbability) {
-            BlockState blockState = blockStateProvider.getState(random, blockPos);
-            worldGenLevel.setBlock(blockPos, blockState, UPDATE_ALL);
-            if (decorate != null) {
-                boolean passedDecorateProbability = false;
-                double decorateProbability = probability / 3;
-                if (decorateProbability >= 1) {
-                    passedDecorateProbability = true;
-                } else {
-                    int randomNumber2 = (int) (Math.random() * ((100)) + 1);
-                    if (randomNumber2 < decorateProbability * 100) {
-                        passedDecorateProbability = true;
-                    }
+    }
+
+    /**
+     * Fills every open neighbour of the vent's liquid cells (below and beside; fluids never flow
+     * up) with {@code outerBlock}, so the shaft cannot leak into caves. Walls that were placed stay
+     * as rolled; only the gaps are filled.
+     */
+    private static void sealLiquid(VentBlockBuffer buffer, RandomSource random, VentTemplate template, long originPos, VentStateSource outerBlock) {
+        for (int i = 0; i < template.size; i++) {
+            if (template.roles[i] != VentTemplate.ROLE_LIQUID) continue;
+            int packed = template.offsets[i];
+            long pos = BlockPos.offset(originPos, VentTemplate.unpackX(packed), VentTemplate.unpackY(packed), VentTemplate.unpackZ(packed));
+            FluidState fluid = buffer.getBlockState(pos).getFluidState();
+            if (fluid.isEmpty()) continue;
+            for (int d = 0; d < VentFluidTicks.SPREAD.size(); d++) {
+                long neighbourPos = BlockPos.offset(pos, VentFluidTicks.SPREAD.get(d));
+                if (VentFluidTicks.canFlowInto(fluid, buffer.getBlockState(neighbourPos))) {
+                    buffer.setBlock(neighbourPos, outerBlock.getState(random, buffer.offsetCursor.set(neighbourPos)));
                 }
-                if (passedDecorateProbability) {
-                    BlockPos offsetPos = randomOffset(blockPos);
-                    BlockState decorateBlockState = decorate.getState(random, offsetPos);
-                    worldGenLevel.setBlock(offsetPos, decorateBlockState, UPDATE_ALL);
-                    if (worldGenLevel.getBlockState(offsetPos.below()).isAir()) {
-                        worldGenLevel.setBlock(offsetPos.below(), blockState, UPDATE_ALL);
-                    }
+            }
+        }
+    }
+
+    private void placeBlock(VentBlockBuffer buffer, RandomSource random, long pos, VentStateSource blockStateProvider, int threshold, @Nullable VentStateSource decorate, int decorateThreshold) {
+        if (roll(random, threshold)) {
+            BlockState blockState = blockStateProvider.getState(random, buffer.cursor.set(pos));
+            buffer.setBlock(pos, blockState);
+            if (decorate != null && roll(random, decorateThreshold)) {
+                int offset = random.nextInt(15);
+                long offsetPos = BlockPos.offset(pos, OFFSET_X[offset], OFFSET_Y[offset], OFFSET_Z[offset]);
+                BlockState decorateBlockState = decorate.getState(random, buffer.offsetCursor.set(offsetPos));
+                buffer.setBlock(offsetPos, decorateBlockState);
+                long belowPos = BlockPos.offset(offsetPos, 0, -1, 0);
+                if (buffer.getBlockState(belowPos).isAir()) {
+                    buffer.setBlock(belowPos, blockState);
                 }
             }
         }
     }
 
-    private BlockPos randomOffset(BlockPos blockPos) {
-        int randomNumber = (int)(Math.random()*((15))+1);
-        if (randomNumber <= 7) {
-            return blockPos.above();
-        } else if (randomNumber == 8) {
-            return blockPos.north();
-        } else if (randomNumber == 9) {
-            return blockPos.east();
-        } else if (randomNumber == 10) {
-            return blockPos.south();
-        } else if (randomNumber == 11) {
-            return blockPos.west();
-        } else if (randomNumber == 12) {
-            return blockPos.north().east();
-        } else if (randomNumber == 13) {
-            return blockPos.north().west();
-        } else if (randomNumber == 14) {
-            return blockPos.south().east();
-        } else {
-            return blockPos.south().west();
+    /** Percentage roll against the placement's seeded random; a threshold of 100 never consumes a roll. */
+    private static boolean roll(RandomSource random, int threshold) {
+        return threshold >= 100 || random.nextInt(100) < threshold;
+    }
+
+    /**
+     * Number of the 100 possible rolls that pass for the given probability.
+     * Matches the old {@code 1..100 < probability * 100} check.
+     */
+    static int percentThreshold(double probability) {
+        if (probability >= 1) {
+            return 100;
         }
+        return Math.max(0, (int) Math.ceil(probability * 100) - 1);
     }
 }
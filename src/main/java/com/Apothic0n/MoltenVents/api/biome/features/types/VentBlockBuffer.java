@@ -0,0 +1,319 @@
+package com.Apothic0n.MoltenVents.api.biome.features.types;
+
+import com.Apothic0n.MoltenVents.metrics.VentPlacementEvent;
+import com.Apothic0n.MoltenVents.worldgen.VentFluidTicks;
+import com.Apothic0n.MoltenVents.worldgen.VentSpilloverStore;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.WorldGenRegion;
+import net.minecraft.world.entity.ai.village.poi.PoiTypes;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ImposterProtoChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.material.FluidState;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.function.LongFunction;
+
+/**
+ * Per-placement block buffer used by {@link MoltenVentFeature}.
+ *
+ * Writes are keyed by packed {@link BlockPos#asLong()} positions and the last write to a
+ * position wins, so the overlapping rings of a vent reach the level only once per block.
+ * Reads go through {@link #getBlockState(long)} so the feature sees its own pending writes.
+ *
+ * When placing into a {@link WorldGenRegion}, blocks that fall outside the chunk being decorated
+ * are only written directly if that neighbour already ran its own feature step; otherwise they
+ * are handed to the level's {@link VentSpilloverStore} and applied when the neighbour is decorated.
+ * If the neighbour's deferred blocks were applied in the meantime, the store refuses them and they
+ * are written directly after all.
+ *
+ * Blocks inside the chunk being decorated are written straight into its {@link LevelChunkSection}s
+ * (see {@link #writeSections}), which is where nearly all of a deep shaft lands.
+ *
+ * Liquids written now get a fluid tick only if they are exposed once the whole vent is in place
+ * (see {@link VentFluidTicks}).
+ *
+ * One buffer is kept per worldgen thread and reused between placements: {@link #begin} binds it
+ * to a level, {@link #flush} writes and clears it. The map and lists keep their capacity across
+ * placements, the two cursors are shared scratch positions and the JFR event is reused while no
+ * recording takes it, so steady-state placement allocates nothing ({@code PlacementAllocationCheck}
+ * in the jmh source set asserts this).
+ * A buffer is confined to its thread and must not be shared; {@link #begin} rejects a second
+ * placement before the first one has been flushed or discarded.
+ */
+class VentBlockBuffer {
+
+    private final Long2ObjectOpenHashMap<BlockState> writes = new Long2ObjectOpenHashMap<>();
+    /** Keys of {@link #writes} in first-write order; iterating the map itself would allocate an iterator per flush. */
+    private final LongArrayList writeOrder = new LongArrayList();
+    private final BlockPos.MutableBlockPos readCursor = new BlockPos.MutableBlockPos();
+    /** Centre-chunk writes, encoded by {@link #sectionKey} so sorting groups them by column, top down. */
+    private final LongArrayList sectionWrites = new LongArrayList();
+    /** Liquids written now that can flow and need a fluid tick. */
+    private final LongArrayList fluidTicks = new LongArrayList();
+    private final LongFunction<BlockState> bufferedStates = this::getBlockState;
+
+    /** Heightmap types, cached because iterating a status's {@link EnumSet} allocates an iterator. */
+    private static final Heightmap.Types[] HEIGHTMAP_TYPES = Heightmap.Types.values();
+
+    /**
+     * Reused as long as no JFR recording commits it; a committed event must not be reused, so it is
+     * only replaced then (see {@link #placementEventCommitted}).
+     */
+    private VentPlacementEvent placementEvent = new VentPlacementEvent();
+
+    /** Scratch position for the block currently being placed. */
+    final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+    /** Scratch position for decoration offsets. */
+    final BlockPos.MutableBlockPos offsetCursor = new BlockPos.MutableBlockPos();
+
+    private WorldGenLevel level;
+    /** Section Ys, relative to {@link #skippedSectionBase}, whose writes are dropped (see {@link #skipSection}). */
+    private final BitSet skippedSections = new BitSet();
+    private int skippedSectionBase;
+
+    VentBlockBuffer begin(WorldGenLevel level) {
+        if (this.level != null) {
+            // Only possible if a placement re-enters itself on the same thread, which would mix two vents' writes
+            throw new IllegalStateException("[MoltenVents] Vent block buffer is already in use on " + Thread.currentThread().getName());
+        }
+        this.level = level;
+        return this;
+    }
+
+    WorldGenLevel level() {
+        return level;
+    }
+
+    void setBlock(long pos, BlockState state) {
+        if (!skippedSections.isEmpty() && isSkipped(BlockPos.getY(pos))) {
+            return;
+        }
+        if (writes.put(pos, state) == null) {
+            writeOrder.add(pos);
+        }
+    }
+
+    /** Drops every later write at a Y inside section {@code sectionY}, until the buffer is flushed or discarded. */
+    void skipSection(int sectionY) {
+        if (skippedSections.isEmpty()) {
+            skippedSectionBase = level.getMinSection();
+        }
+        skippedSections.set(sectionY - skippedSectionBase);
+    }
+
+    private boolean isSkipped(int y) {
+        int index = SectionPos.blockToSectionCoord(y) - skippedSectionBase;
+        return index >= 0 && skippedSections.get(index);
+    }
+
+    VentPlacementEvent placementEvent() {
+        return placementEvent;
+    }
+
+    void placementEventCommitted() {
+        placementEvent = new VentPlacementEvent();
+    }
+
+    /** Returns the pending state at {@code pos}, falling back to the level if nothing was buffered. */
+    BlockState getBlockState(long pos) {
+        BlockState pending = writes.get(pos);
+        return pending != null ? pending : level.getBlockState(readCursor.set(pos));
+    }
+
+    /**
+     * Writes every buffered block to the level with the given update flags, then clears the
+     * buffer and releases the level. Blocks for undecorated neighbour chunks are deferred instead.
+     *
+     * @return the number of blocks written now
+     */
+    int flush(int flags) {
+        WorldGenRegion region = level instanceof WorldGenRegion worldGenRegion ? worldGenRegion : null;
+        VentSpilloverStore spillover = region != null ? VentSpilloverStore.get(region.getLevel()) : null;
+        long centerChunk = region != null ? region.getCenter().toLong() : 0L;
+        ProtoChunk sectionTarget = region != null ? sectionWriteTarget(region) : null;
+
+        int written = 0;
+        for (int i = 0; i < writeOrder.size(); i++) {
+            long pos = writeOrder.getLong(i);
+            BlockState state = writes.get(pos);
+            if (region != null) {
+                int chunkX = SectionPos.blockToSectionCoord(BlockPos.getX(pos));
+                int chunkZ = SectionPos.blockToSectionCoord(BlockPos.getZ(pos));
+                // defer refuses a neighbour whose pending writes were applied since isDecorated looked; write it now then
+                if (ChunkPos.asLong(chunkX, chunkZ) != centerChunk && spillover != null && !isDecorated(region, chunkX, chunkZ)
+                        && (spillover.defer(pos, state) || !region.hasChunk(chunkX, chunkZ))) {
+                    continue;
+                }
+            }
+            FluidState fluid = state.getFluidState();
+            if (!fluid.isEmpty() && VentFluidTicks.isExposed(fluid, pos, bufferedStates)) {
+                fluidTicks.add(pos);
+            }
+            if (sectionTarget != null && isInChunk(sectionTarget, pos) && canWriteSection(region, sectionTarget, pos, state)) {
+                sectionWrites.add(sectionKey(pos));
+            } else if (level.setBlock(readCursor.set(pos), state, flags)) {
+                written++;
+            }
+        }
+        if (!sectionWrites.isEmpty()) {
+            written += writeSections(sectionTarget);
+        }
+        for (int i = 0; i < fluidTicks.size(); i++) {
+            long pos = fluidTicks.getLong(i);
+            VentFluidTicks.schedule(level, readCursor.set(pos), writes.get(pos).getFluidState());
+        }
+        discard();
+        return written;
+    }
+
+    // -------------------------------------------------------------------------
+    //  Direct section writes
+    // -------------------------------------------------------------------------
+
+    /**
+     * The chunk being decorated, if its sections can be written directly: a real proto-chunk that
+     * has not reached lighting yet (so no light updates are owed) with its heightmaps primed.
+     */
+    private static ProtoChunk sectionWriteTarget(WorldGenRegion region) {
+        ChunkPos center = region.getCenter();
+        ChunkAccess chunk = region.getChunk(center.x, center.z);
+        if (!(chunk instanceof ProtoChunk protoChunk) || chunk instanceof ImposterProtoChunk) {
+            return null;
+        }
+        ChunkStatus status = chunk.getPersistedStatus();
+        if (status.isOrAfter(ChunkStatus.INITIALIZE_LIGHT)) {
+            return null;
+        }
+        EnumSet<Heightmap.Types> heightmapTypes = status.heightmapsAfter();
+        for (Heightmap.Types type : HEIGHTMAP_TYPES) {
+            if (heightmapTypes.contains(type) && !chunk.hasPrimedHeightmap(type)) {
+                return null;
+            }
+        }
+        return protoChunk;
+    }
+
+    /**
+     * Whether {@code state} can go straight into the section: in build height, and neither it nor
+     * the block it replaces needs a block entity, POI update or post-processing, which only
+     * {@link WorldGenRegion#setBlock} handles.
+     */
+    private boolean canWriteSection(WorldGenRegion region, ChunkAccess chunk, long pos, BlockState state) {
+        int y = BlockPos.getY(pos);
+        if (chunk.isOutsideBuildHeight(y) || !isPlainState(state)
+                || state.hasPostProcess(region, readCursor.set(pos))) {
+            return false;
+        }
+        LevelChunkSection section = chunk.getSection(chunk.getSectionIndex(y));
+        return isPlainState(section.getBlockState(BlockPos.getX(pos) & 15, y & 15, BlockPos.getZ(pos) & 15));
+    }
+
+    private static boolean isInChunk(ChunkAccess chunk, long pos) {
+        ChunkPos chunkPos = chunk.getPos();
+        return SectionPos.blockToSectionCoord(BlockPos.getX(pos)) == chunkPos.x
+                && SectionPos.blockToSectionCoord(BlockPos.getZ(pos)) == chunkPos.z;
+    }
+
+    private static boolean isPlainState(BlockState state) {
+        return !state.hasBlockEntity() && PoiTypes.forState(state).isEmpty();
+    }
+
+    /**
+     * Writes the collected centre-chunk blocks into their sections, then brings the heightmaps up
+     * to date column by column. Walking each column from its highest write down lets every
+     * {@link Heightmap#update} see final states, which gives the same heightmaps as per-block
+     * {@code setBlock} calls; all but the top few writes of a column return immediately.
+     *
+     * @return the number of blocks that actually changed
+     */
+    private int writeSections(ProtoChunk chunk) {
+        long[] keys = sectionWrites.elements();
+        int size = sectionWrites.size();
+        Arrays.sort(keys, 0, size);
+
+        int minX = SectionPos.sectionToBlockCoord(chunk.getPos().x);
+        int minZ = SectionPos.sectionToBlockCoord(chunk.getPos().z);
+        LevelChunkSection[] sections = chunk.getSections();
+        LevelChunkSection section = null;
+        int written = 0;
+        try {
+            for (int i = 0; i < size; i++) {
+                long key = keys[i];
+                int column = sectionKeyColumn(key);
+                int y = sectionKeyY(key);
+                LevelChunkSection next = sections[chunk.getSectionIndex(y)];
+                if (next != section) {
+                    if (section != null) section.release();
+                    section = next;
+                    section.acquire();
+                }
+                BlockState state = writes.get(BlockPos.asLong(minX + (column & 15), y, minZ + (column >> 4)));
+                // A write that leaves the block as it was is not counted as written
+                if (section.setBlockState(column & 15, y & 15, column >> 4, state, false) != state) {
+                    written++;
+                }
+            }
+        } finally {
+            if (section != null) section.release();
+        }
+
+        EnumSet<Heightmap.Types> heightmapTypes = chunk.getPersistedStatus().heightmapsAfter();
+        for (Heightmap.Types type : HEIGHTMAP_TYPES) {
+            if (!heightmapTypes.contains(type)) continue;
+            Heightmap heightmap = chunk.getOrCreateHeightmapUnprimed(type);
+            for (int i = 0; i < size; i++) {
+                long key = keys[i];
+                int column = sectionKeyColumn(key);
+                int y = sectionKeyY(key);
+                BlockState state = writes.get(BlockPos.asLong(minX + (column & 15), y, minZ + (column >> 4)));
+                heightmap.update(column & 15, y, column >> 4, state);
+            }
+        }
+        if (written > 0) {
+            chunk.setUnsaved(true);
+        }
+        return written;
+    }
+
+    /** Column index (x | z << 4) in the high half, descending y in the low half. */
+    private static long sectionKey(long pos) {
+        int column = (BlockPos.getX(pos) & 15) | (BlockPos.getZ(pos) & 15) << 4;
+        return (long) column << 32 | (0x7FFFFFFFL - BlockPos.getY(pos));
+    }
+
+    private static int sectionKeyColumn(long key) {
+        return (int) (key >>> 32);
+    }
+
+    private static int sectionKeyY(long key) {
+        return (int) (0x7FFFFFFFL - (key & 0xFFFFFFFFL));
+    }
+
+    /** Whether a neighbour chunk has already run its feature step, so writing into it directly is final. */
+    private static boolean isDecorated(WorldGenRegion region, int chunkX, int chunkZ) {
+        return region.hasChunk(chunkX, chunkZ)
+                && region.getChunk(chunkX, chunkZ).getPersistedStatus().isOrAfter(ChunkStatus.FEATURES);
+    }
+
+    /** Drops any buffered writes without touching the level. */
+    void discard() {
+        writes.clear();
+        writeOrder.clear();
+        sectionWrites.clear();
+        fluidTicks.clear();
+        skippedSections.clear();
+        level = null;
+    }
+}
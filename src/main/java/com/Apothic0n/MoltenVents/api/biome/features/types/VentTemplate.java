@@ -0,0 +1,182 @@
+package com.Apothic0n.MoltenVents.api.biome.features.types;
+
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Precompiled vent geometry.
+ *
+ * The ring, diagonal and shaft layout of a vent only depends on its (clamped) depth and the
+ * {@code underwater} flag, so each shape is compiled once into parallel primitive arrays:
+ * packed relative offsets, percent thresholds and a role telling {@link MoltenVentFeature}
+ * which provider to use. Entries are stored in the exact order the old hand-written placement
+ * methods visited them, so the random sequence (and therefore the generated vent) is unchanged.
+ *
+ * Templates are immutable once built and shared between worldgen threads.
+ */
+final class VentTemplate {
+
+    /** Outer shell block. */
+    static final byte ROLE_OUTER = 0;
+    /** Outer shell block that may also drop a decorative block next to it. */
+    static final byte ROLE_DECORATED = 1;
+    /** Liquid core of the shaft. */
+    static final byte ROLE_LIQUID = 2;
+    /** Water or air reset at the vent origin. */
+    static final byte ROLE_CLEAR = 3;
+    /** Inner block directly below the origin. */
+    static final byte ROLE_INNER = 4;
+
+    /** Depths at or below this value get no shaft, so they all share one template. */
+    private static final int MIN_SHAFT_DEPTH = 10;
+    /** Underwater shafts are clamped to this depth. */
+    private static final int MAX_UNDERWATER_DEPTH = 80;
+    private static final int MAX_DEPTH = 255;
+
+    private static final AtomicReferenceArray<VentTemplate> CACHE = new AtomicReferenceArray<>((MAX_DEPTH + 1) * 2);
+
+    /** Packed {@code dx, dz, dy} offsets, see {@link #pack(int, int, int)}. */
+    final int[] offsets;
+    /** Percent threshold per entry, {@code 100} means always placed. */
+    final int[] thresholds;
+    /** Percent threshold for the decoration roll of {@link #ROLE_DECORATED} entries, {@code 0} otherwise. */
+    final int[] decorateThresholds;
+    final byte[] roles;
+    final int size;
+
+    private VentTemplate(Builder builder) {
+        this.offsets = builder.offsets.toIntArray();
+        this.thresholds = builder.thresholds.toIntArray();
+        this.decorateThresholds = builder.decorateThresholds.toIntArray();
+        this.roles = builder.roles.toByteArray();
+        this.size = offsets.length;
+    }
+
+    /** Returns the cached template for a sampled depth, compiling it on first use. */
+    static VentTemplate get(int depth, boolean underwater) {
+        if (underwater && depth > MAX_UNDERWATER_DEPTH) {
+            depth = MAX_UNDERWATER_DEPTH;
+        }
+        int bucket = depth <= MIN_SHAFT_DEPTH ? 0 : Math.min(depth, MAX_DEPTH);
+        int index = bucket * 2 + (underwater ? 1 : 0);
+        VentTemplate template = CACHE.get(index);
+        if (template == null) {
+            CACHE.compareAndSet(index, null, compile(bucket));
+            template = CACHE.get(index);
+        }
+        return template;
+    }
+
+    // -------------------------------------------------------------------------
+    //  Packing
+    // -------------------------------------------------------------------------
+
+    static int pack(int dx, int dy, int dz) {
+        return ((dx & 0xFF) << 24) | ((dz & 0xFF) << 16) | (dy & 0xFFFF);
+    }
+
+    static int unpackX(int packed) {
+        return packed >> 24;
+    }
+
+    static int unpackZ(int packed) {
+        return (byte) (packed >> 16);
+    }
+
+    static int unpackY(int packed) {
+        return (short) packed;
+    }
+
+    // -------------------------------------------------------------------------
+    //  Compilation
+    // -------------------------------------------------------------------------
+
+    private static VentTemplate compile(int depth) {
+        Builder b = new Builder();
+        b.partialDiagonal(1, 3, 0.8, true);
+        b.diagonal(1, 3, 3, 0.66, true);
+        b.partialDiagonal(0, 3, 0.7, true);
+        b.straight(0, 3, 3, 1, true);
+        b.diagonal(0, 0, 3, 1.6, false);
+        b.straight(-1, 3, 3, 1, false);
+        b.diagonal(-1, 0, 3, 1.6, false);
+        if (depth > MIN_SHAFT_DEPTH) {
+            for (int y = 1; y <= (depth / 2) + 1; y++) {
+                b.straight(-y, 0, 2, 0.8, false);
+                b.diagonal(-y, 0, 2, 0.75, false);
+                b.add(0, -y, 0, 1, ROLE_LIQUID, false);
+            }
+
+            for (int y = (depth / 2) + 2; y <= depth + 1; y++) {
+                b.straight(-y, 0, 1, 0.33, false);
+                b.diagonal(-y, 0, 1, 0.275, false);
+                b.add(0, -y, 0, 1, ROLE_LIQUID, false);
+            }
+        }
+        b.add(0, 0, 0, 1, ROLE_CLEAR, false);
+        b.add(0, -1, 0, 1, ROLE_INNER, false);
+        return new VentTemplate(b);
+    }
+
+    /** Mirrors the old placeStraight/placeDiagonal/placePartialDiagonal helpers, emitting entries instead of blocks. */
+    private static final class Builder {
+        private final IntArrayList offsets = new IntArrayList();
+        private final IntArrayList thresholds = new IntArrayList();
+        private final IntArrayList decorateThresholds = new IntArrayList();
+        private final ByteArrayList roles = new ByteArrayList();
+
+        void straight(int y, int minRadius, int maxRadius, double probability, boolean decorate) {
+            minRadius--;
+            for (int radius = minRadius; radius < maxRadius; radius++) {
+                outer(0, y, -radius, probability, decorate);
+                outer(radius, y, 0, probability, decorate);
+                outer(0, y, radius, probability, decorate);
+                outer(-radius, y, 0, probability, decorate);
+            }
+        }
+
+        void diagonal(int y, int minRadius, int maxRadius, double probability, boolean decorate) {
+            minRadius--;
+            for (int radius = minRadius; radius < maxRadius; radius++) {
+                outer(1, y, -radius, probability, decorate);
+                outer(-1, y, -radius, probability, decorate);
+                outer(-1, y, radius, probability, decorate);
+                outer(1, y, radius, probability, decorate);
+                outer(radius, y, -1, probability, decorate);
+                outer(-radius, y, -1, probability, decorate);
+                outer(-radius, y, 1, probability, decorate);
+                outer(radius, y, 1, probability, decorate);
+                for (int corner = 0; corner < 2; corner++) {
+                    outer(radius, y, -radius, probability, decorate);
+                    outer(-radius, y, -radius, probability, decorate);
+                    outer(-radius, y, radius, probability, decorate);
+                    outer(radius, y, radius, probability, decorate);
+                }
+            }
+        }
+
+        void partialDiagonal(int y, int radius, double probability, boolean decorate) {
+            outer(1, y, -radius, probability, decorate);
+            outer(-1, y, -radius, probability, decorate);
+            outer(-1, y, radius, probability, decorate);
+            outer(1, y, radius, probability, decorate);
+            outer(radius, y, -1, probability, decorate);
+            outer(-radius, y, -1, probability, decorate);
+            outer(-radius, y, 1, probability, decorate);
+            outer(radius, y, 1, probability, decorate);
+        }
+
+        private void outer(int dx, int dy, int dz, double probability, boolean decorate) {
+            add(dx, dy, dz, probability, decorate ? ROLE_DECORATED : ROLE_OUTER, decorate);
+        }
+
+        void add(int dx, int dy, int dz, double probability, byte role, boolean decorate) {
+            offsets.add(pack(dx, dy, dz));
+            thresholds.add(MoltenVentFeature.percentThreshold(probability));
+            decorateThresholds.add(decorate ? MoltenVentFeature.percentThreshold(probability / 3) : 0);
+            roles.add(role);
+        }
+    }
+}
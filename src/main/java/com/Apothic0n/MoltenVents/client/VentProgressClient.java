@@ -0,0 +1,74 @@
+package com.Apothic0n.MoltenVents.client;
+
+import com.Apothic0n.MoltenVents.network.VentProgressPayload;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+
+/**
+ * Client-side copy of activation progress from {@link VentProgressPayload}s.
+ *
+ * Each update is turned into a deadline on the client's own game time, so progress keeps moving
+ * smoothly between the (deliberately infrequent) updates and only snaps when the server's view
+ * drifts. Read every frame by {@link VentProgressOverlay}. Only touched on the client main thread.
+ */
+public final class VentProgressClient {
+
+    /** {@code total} is the length the server started this timer with, independent of the current config. */
+    private record Timer(long deadline, int total) {}
+
+    /** Chunk → (burner position → timer). */
+    private static final Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<Timer>> CHUNKS = new Long2ObjectOpenHashMap<>();
+
+    private VentProgressClient() {}
+
+    /** Forgets progress for chunks and levels the client unloads (including on disconnect). */
+    public static void register(IEventBus eventBus) {
+        eventBus.addListener((ChunkEvent.Unload event) -> {
+            if (event.getLevel().isClientSide()) {
+                CHUNKS.remove(event.getChunk().getPos().toLong());
+            }
+        });
+        eventBus.addListener((LevelEvent.Unload event) -> {
+            if (event.getLevel().isClientSide()) {
+                CHUNKS.clear();
+            }
+        });
+    }
+
+    public static void accept(VentProgressPayload payload, long clientGameTime) {
+        if (payload.positions().length == 0) {
+            CHUNKS.remove(payload.chunkPos());
+            return;
+        }
+        int minX = ChunkPos.getX(payload.chunkPos()) << 4;
+        int minZ = ChunkPos.getZ(payload.chunkPos()) << 4;
+        Long2ObjectOpenHashMap<Timer> timers = new Long2ObjectOpenHashMap<>(payload.positions().length);
+        for (int i = 0; i < payload.positions().length; i++) {
+            int packed = payload.positions()[i];
+            long pos = BlockPos.asLong(minX + VentProgressPayload.localX(packed), VentProgressPayload.localY(packed),
+                    minZ + VentProgressPayload.localZ(packed));
+            timers.put(pos, new Timer(clientGameTime + payload.remaining()[i], payload.totals()[i]));
+        }
+        CHUNKS.put(payload.chunkPos(), timers);
+    }
+
+    /**
+     * Activation progress of the burner at {@code pos} from 0 to 1, interpolated to the current
+     * frame, or a negative value if it is not heating a vent.
+     */
+    public static float progress(BlockPos pos, long clientGameTime, float partialTick) {
+        Long2ObjectMap<Timer> timers = CHUNKS.get(ChunkPos.asLong(pos));
+        Timer timer = timers == null ? null : timers.get(pos.asLong());
+        if (timer == null) {
+            return -1;
+        }
+        float left = timer.deadline() - (clientGameTime + partialTick);
+        return Mth.clamp(1 - left / Math.max(1, timer.total()), 0, 1);
+    }
+}
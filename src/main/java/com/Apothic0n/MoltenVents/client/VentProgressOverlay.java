@@ -0,0 +1,57 @@
+package com.Apothic0n.MoltenVents.client;
+
+import com.Apothic0n.MoltenVents.MoltenVents;
+import net.minecraft.client.DeltaTracker;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.HitResult;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.client.event.RegisterGuiLayersEvent;
+import net.neoforged.neoforge.client.gui.VanillaGuiLayers;
+
+/**
+ * HUD element under the crosshair showing how far the blaze burner being looked at is from
+ * activating its vent, read from {@link VentProgressClient} and interpolated every frame.
+ * Client only; registered on the mod bus from the client dist.
+ */
+public final class VentProgressOverlay {
+
+    private static final ResourceLocation LAYER_ID = ResourceLocation.fromNamespaceAndPath(MoltenVents.MODID, "vent_progress");
+    private static final int BAR_WIDTH = 50;
+    private static final int BAR_HEIGHT = 3;
+
+    private VentProgressOverlay() {}
+
+    public static void register(IEventBus modEventBus) {
+        modEventBus.addListener(VentProgressOverlay::onRegisterGuiLayers);
+    }
+
+    private static void onRegisterGuiLayers(RegisterGuiLayersEvent event) {
+        event.registerAbove(VanillaGuiLayers.CROSSHAIR, LAYER_ID, VentProgressOverlay::render);
+    }
+
+    private static void render(GuiGraphics graphics, DeltaTracker deltaTracker) {
+        Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft.level == null || minecraft.options.hideGui) return;
+        HitResult hitResult = minecraft.hitResult;
+        if (!(hitResult instanceof BlockHitResult blockHit) || hitResult.getType() != HitResult.Type.BLOCK) return;
+
+        float progress = VentProgressClient.progress(blockHit.getBlockPos(), minecraft.level.getGameTime(),
+                deltaTracker.getGameTimeDeltaPartialTick(false));
+        if (progress < 0) return;
+
+        int centerX = graphics.guiWidth() / 2;
+        int top = graphics.guiHeight() / 2 + 12;
+        Component label = Component.translatable("hud.molten_vents.vent_activation", Mth.floor(progress * 100));
+        graphics.drawCenteredString(minecraft.font, label, centerX, top, 0xFFFFAA33);
+
+        int barLeft = centerX - BAR_WIDTH / 2;
+        int barTop = top + minecraft.font.lineHeight + 1;
+        graphics.fill(barLeft - 1, barTop - 1, barLeft + BAR_WIDTH + 1, barTop + BAR_HEIGHT + 1, 0xAA000000);
+        graphics.fill(barLeft, barTop, barLeft + Mth.floor(BAR_WIDTH * progress), barTop + BAR_HEIGHT, 0xFFFF6A00);
+    }
+}
@@ -0,0 +1,186 @@
+package com.Apothic0n.MoltenVents.command;
+
+import com.Apothic0n.MoltenVents.activation.VentActivationTracker;
+import com.Apothic0n.MoltenVents.config.MoltenVentsActivationConfig;
+import com.Apothic0n.MoltenVents.metrics.LatencyHistogram;
+import com.Apothic0n.MoltenVents.metrics.MoltenVentsMetrics;
+import com.Apothic0n.MoltenVents.metrics.VentPlacementExporter;
+import com.Apothic0n.MoltenVents.worldgen.VentIndex;
+import com.Apothic0n.MoltenVents.worldgen.VentRetrogen;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.ClickEvent;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.ComponentUtils;
+import net.minecraft.network.chat.HoverEvent;
+import net.minecraft.util.Mth;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.event.RegisterCommandsEvent;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * {@code /moltenvents} admin commands.
+ */
+public class MoltenVentsCommands {
+
+    private static final int DEFAULT_LOCATE_RADIUS = 6400;
+    private static final int MAX_LOCATE_RADIUS = 100_000;
+
+    public static void register(IEventBus eventBus) {
+        eventBus.addListener(MoltenVentsCommands::onRegisterCommands);
+    }
+
+    private static void onRegisterCommands(RegisterCommandsEvent event) {
+        register(event.getDispatcher());
+    }
+
+    private static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("moltenvents")
+                .requires(source -> source.hasPermission(Commands.LEVEL_GAMEMASTERS))
+                .then(Commands.literal("reload").executes(MoltenVentsCommands::reload))
+                .then(Commands.literal("locate")
+                        .executes(context -> locate(context, DEFAULT_LOCATE_RADIUS))
+                        .then(Commands.argument("radius", IntegerArgumentType.integer(1, MAX_LOCATE_RADIUS))
+                                .executes(context -> locate(context, IntegerArgumentType.getInteger(context, "radius")))))
+                .then(Commands.literal("stats")
+                        .executes(MoltenVentsCommands::stats)
+                        .then(Commands.literal("reset").executes(MoltenVentsCommands::resetStats)))
+                .then(Commands.literal("export")
+                        .then(Commands.literal("start").executes(MoltenVentsCommands::startExport))
+                        .then(Commands.literal("stop").executes(MoltenVentsCommands::stopExport)))
+                .then(Commands.literal("retrogen")
+                        .then(Commands.literal("start")
+                                .executes(context -> startRetrogen(context, VentRetrogen.DEFAULT_BUDGET_MICROS))
+                                .then(Commands.argument("budgetMicros", IntegerArgumentType.integer(VentRetrogen.MIN_BUDGET_MICROS, VentRetrogen.MAX_BUDGET_MICROS))
+                                        .executes(context -> startRetrogen(context, IntegerArgumentType.getInteger(context, "budgetMicros")))))
+                        .then(Commands.literal("stop").executes(MoltenVentsCommands::stopRetrogen))));
+    }
+
+    // ---- reload ----------------------------------------------------------------
+
+    /** Re-parses the activation config off-thread and reports back on the server thread. */
+    private static int reload(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        MoltenVentsActivationConfig.reloadAsync().whenCompleteAsync((snapshot, error) -> {
+            if (error != null) {
+                // whenComplete sees the CompletionException wrapping what reloadAsync threw
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                String reason = cause.getMessage() != null ? cause.getMessage() : cause.toString();
+                source.sendFailure(Component.literal("Molten Vents config reload failed, keeping the previous config: " + reason));
+            } else {
+                source.sendSuccess(() -> Component.literal("Reloaded Molten Vents config: "
+                        + snapshot.pairs().size() + " vent pair(s), activationTicks=" + snapshot.activationTicks()), true);
+            }
+        }, source.getServer());
+        return 1;
+    }
+
+    // ---- locate ----------------------------------------------------------------
+
+    /** Looks up the nearest generated vent in the source's level from the vent index. */
+    private static int locate(CommandContext<CommandSourceStack> context, int radius) {
+        CommandSourceStack source = context.getSource();
+        VentIndex index = VentIndex.get(source.getLevel());
+        BlockPos from = BlockPos.containing(source.getPosition());
+        Optional<VentIndex.LocatedVent> nearest = index == null ? Optional.empty() : index.nearest(from, radius);
+        if (nearest.isEmpty()) {
+            source.sendFailure(Component.literal("No generated molten vent within " + radius + " blocks"));
+            return 0;
+        }
+
+        BlockPos origin = nearest.get().origin();
+        int distance = Mth.floor(Math.sqrt(from.distSqr(new BlockPos(origin.getX(), from.getY(), origin.getZ()))));
+        Component coordinates = ComponentUtils.wrapInSquareBrackets(Component.translatable("chat.coordinates", origin.getX(), origin.getY(), origin.getZ()))
+                .withStyle(style -> style.withColor(ChatFormatting.GREEN)
+                        .withClickEvent(new ClickEvent(ClickEvent.Action.SUGGEST_COMMAND, "/tp @s " + origin.getX() + " " + origin.getY() + " " + origin.getZ()))
+                        .withHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_TEXT, Component.translatable("chat.coordinates.tooltip"))));
+        source.sendSuccess(() -> Component.literal("Nearest molten vent (" + nearest.get().feature() + ") is at ")
+                .append(coordinates).append(" (" + distance + " blocks away)"), false);
+        return distance;
+    }
+
+    // ---- stats -----------------------------------------------------------------
+
+    private static int stats(CommandContext<CommandSourceStack> context) {
+        LatencyHistogram latency = MoltenVentsMetrics.PLACE_NANOS;
+        String placement = String.format("Placement: %d calls, %d placed, %d rejected, %d blocks written",
+                MoltenVentsMetrics.PLACE_CALLS.sum(), MoltenVentsMetrics.PLACE_ACCEPTED.sum(),
+                MoltenVentsMetrics.PLACE_REJECTED.sum(), MoltenVentsMetrics.BLOCKS_WRITTEN.sum());
+        String timing = String.format("Placement time: mean %.1f µs, p50 <= %.1f µs, p99 <= %.1f µs",
+                latency.meanNanos() / 1000.0, latency.percentileNanos(50) / 1000.0, latency.percentileNanos(99) / 1000.0);
+        String activation = String.format("Activation: %d candidate burner(s), %d running timer(s), %d conversion(s)",
+                VentActivationTracker.totalCandidateCount(), VentActivationTracker.totalRunningTimerCount(),
+                MoltenVentsMetrics.CONVERSIONS.sum());
+
+        CommandSourceStack source = context.getSource();
+        source.sendSuccess(() -> Component.literal(placement), false);
+        source.sendSuccess(() -> Component.literal(timing), false);
+        source.sendSuccess(() -> Component.literal(activation), false);
+        source.sendSuccess(() -> Component.literal(VentPlacementExporter.describe()), false);
+        VentRetrogen retrogen = VentRetrogen.get(source.getLevel());
+        String retrogenStatus = retrogen.isEnabled()
+                ? String.format("Retrogen: on (%d µs/tick), %d chunk(s) done, %d queued", retrogen.budgetMicros(), retrogen.doneCount(), retrogen.queuedCount())
+                : String.format("Retrogen: off, %d chunk(s) done", retrogen.doneCount());
+        source.sendSuccess(() -> Component.literal(retrogenStatus), false);
+        return 1;
+    }
+
+    private static int resetStats(CommandContext<CommandSourceStack> context) {
+        MoltenVentsMetrics.reset();
+        context.getSource().sendSuccess(() -> Component.literal("Reset Molten Vents stats"), true);
+        return 1;
+    }
+
+    // ---- export ----------------------------------------------------------------
+
+    private static int startExport(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        Path directory = VentPlacementExporter.directory(source.getServer());
+        if (!VentPlacementExporter.start(directory)) {
+            source.sendFailure(Component.literal("Vent export is already running or could not be started"));
+            return 0;
+        }
+        source.sendSuccess(() -> Component.literal("Exporting placed vents to " + directory), true);
+        return 1;
+    }
+
+    private static int stopExport(CommandContext<CommandSourceStack> context) {
+        if (!VentPlacementExporter.stop()) {
+            context.getSource().sendFailure(Component.literal("Vent export is not running"));
+            return 0;
+        }
+        context.getSource().sendSuccess(() -> Component.literal("Stopped vent export"), true);
+        return 1;
+    }
+
+    // ---- retrogen --------------------------------------------------------------
+
+    /** Enables vent retrogen in the source's level; see {@link VentRetrogen}. */
+    private static int startRetrogen(CommandContext<CommandSourceStack> context, int budgetMicros) {
+        CommandSourceStack source = context.getSource();
+        VentRetrogen retrogen = VentRetrogen.get(source.getLevel());
+        retrogen.start(budgetMicros);
+        source.sendSuccess(() -> Component.literal("Retrogen enabled in " + source.getLevel().dimension().location()
+                + " with a budget of " + retrogen.budgetMicros() + " µs/tick, " + retrogen.queuedCount() + " chunk(s) queued"), true);
+        return 1;
+    }
+
+    private static int stopRetrogen(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        VentRetrogen retrogen = VentRetrogen.get(source.getLevel());
+        if (!retrogen.isEnabled()) {
+            source.sendFailure(Component.literal("Retrogen is not running in " + source.getLevel().dimension().location()));
+            return 0;
+        }
+        retrogen.stop();
+        source.sendSuccess(() -> Component.literal("Retrogen disabled, " + retrogen.doneCount() + " chunk(s) done"), true);
+        return 1;
+    }
+}
@@ -1,7 +1,7 @@
 package com.Apothic0n.MoltenVents.compat.jei;
 
 import com.Apothic0n.MoltenVents.config.MoltenVentsActivationConfig;
-import com.mojang.logging.LogUtils;
+import com.Apothic0n.MoltenVents.config.VentActivationSnapshot;
 import mezz.jei.api.IModPlugin;
 import mezz.jei.api.JeiPlugin;
 import mezz.jei.api.registration.IRecipeCatalystRegistration;
@@ -11,7 +11,6 @@ import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.Block;
-import org.slf4j.Logger;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,8 +25,6 @@ import java.util.Optional;
 @JeiPlugin
 public class MoltenVentsJeiPlugin implements IModPlugin {
 
-    private static final Logger LOGGER = LogUtils.getLogger();
-
     @Override
     public ResourceLocation getPluginUid() {
         return ResourceLocation.fromNamespaceAndPath("molten_vents", "jei_plugin");
@@ -69,27 +66,14 @@ public class MoltenVentsJeiPlugin implements IModPlugin {
 
     private static List<VentActivationRecipe> buildRecipes() {
         List<VentActivationRecipe> list = new ArrayList<>();
-        int ticks = MoltenVentsActivationConfig.INSTANCE.activationTicks;
-
-        for (MoltenVentsActivationConfig.VentPair pair : MoltenVentsActivationConfig.INSTANCE.ventPairs) {
-            if (pair.dormant == null || pair.active == null) continue;
-
-            ResourceLocation dormantId = ResourceLocation.tryParse(pair.dormant);
-            ResourceLocation activeId  = ResourceLocation.tryParse(pair.active);
-            if (dormantId == null || activeId == null) continue;
-
-            Optional<Block> dormantBlock = BuiltInRegistries.BLOCK.getOptional(dormantId);
-            Optional<Block> activeBlock  = BuiltInRegistries.BLOCK.getOptional(activeId);
-
-            if (dormantBlock.isEmpty() || activeBlock.isEmpty()) {
-                LOGGER.debug("[MoltenVents JEI] Skipping pair {}->{}: block(s) not found in registry.",
-                        pair.dormant, pair.active);
-                continue;
-            }
+        VentActivationSnapshot config = MoltenVentsActivationConfig.current();
+        int ticks = config.activationTicks();
 
+        // Pairs are already resolved against the registry; unresolvable ones were logged at load
+        for (VentActivationSnapshot.ResolvedPair pair : config.pairs()) {
             list.add(new VentActivationRecipe(
-                    new ItemStack(dormantBlock.get()),
-                    new ItemStack(activeBlock.get()),
+                    new ItemStack(pair.dormant()),
+                    new ItemStack(pair.active().getBlock()),
                     ticks
             ));
         }
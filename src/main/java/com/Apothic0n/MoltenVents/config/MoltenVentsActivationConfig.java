@@ -2,6 +2,7 @@ package com.Apothic0n.MoltenVents.config;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import com.mojang.logging.LogUtils;
 import net.neoforged.fml.loading.FMLPaths;
 import org.slf4j.Logger;
@@ -13,6 +14,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 /**
  * JSON config for Molten Vents activation.
@@ -22,23 +26,52 @@ import java.util.List;
  * Format:
  * {
  *   "activationTicks": 200,
+ *   "checkInterval": 10,
+ *   "progressSyncInterval": 20,
+ *   "watchConfigFile": false,
  *   "ventPairs": [
- *     { "dormant": "modid:dormant_vent_block", "active": "modid:active_vent_block" }
+ *     { "dormant": "modid:dormant_vent_block", "active": "modid:active_vent_block" },
+ *     { "dormant": "#modid:dormant_vents",     "active": "modid:active_vent_block" },
+ *     { "dormant": "modid:dormant_*",          "active": "modid:active_*" }
  *   ]
  * }
+ *
+ * {@code dormant} accepts a block ID, a {@code #}-prefixed block tag or a path wildcard; see
+ * {@link VentPattern}.
+ *
+ * This class is only the JSON shape. Readers use {@link #current()}, an immutable
+ * {@link VentActivationSnapshot} that is swapped atomically on every load or
+ * {@code /moltenvents reload}.
  */
 public class MoltenVentsActivationConfig {
 
     private static final Logger LOGGER = LogUtils.getLogger();
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String FILE_NAME = "molten_vents_activation.json";
+
+    /** Single background thread for re-parsing the file, so reloads never run on the server thread. */
+    private static final Executor RELOAD_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "MoltenVents config reload");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-    /** Singleton instance, populated on load */
-    public static MoltenVentsActivationConfig INSTANCE = new MoltenVentsActivationConfig();
+    /** Current compiled config, replaced wholesale on reload */
+    private static volatile VentActivationSnapshot snapshot = VentActivationSnapshot.EMPTY;
 
     /** How many ticks the blaze burner must be superheated before conversion (default 200 = 10 seconds) */
     public int activationTicks = 200;
 
-    /** List of dormant → active vent block ID pairs */
+    /** How often (in ticks) blaze burners sitting on dormant vents are checked and advanced */
+    public int checkInterval = 10;
+
+    /** How often (in ticks) activation progress is sent to nearby players; 0 disables it */
+    public int progressSyncInterval = 20;
+
+    /** Re-load this file automatically whenever it changes on disk */
+    public boolean watchConfigFile = false;
+
+    /** List of dormant → active vent pairs; dormant may also be a tag or wildcard */
     public List<VentPair> ventPairs = new ArrayList<>();
 
     public MoltenVentsActivationConfig() {}
@@ -65,28 +98,91 @@ public class MoltenVentsActivationConfig {
     //  Loading
     // -------------------------------------------------------------------------
 
+    /** The config currently in effect. Never {@code null}; empty until the first load. */
+    public static VentActivationSnapshot current() {
+        return snapshot;
+    }
+
+    /** Replaces the config in effect, e.g. for tests. */
+    public static synchronized void publish(VentActivationSnapshot newSnapshot) {
+        snapshot = newSnapshot;
+    }
+
+    /**
+     * Compiles {@code config} against the tags bound right now and publishes it. Compiling under
+     * the same lock as {@link #refreshTags} means a tag reload either runs before and is seen by
+     * the compile, or runs after and re-resolves the published snapshot, so it is never lost.
+     */
+    private static synchronized VentActivationSnapshot compileAndPublish(MoltenVentsActivationConfig config) {
+        snapshot = VentActivationSnapshot.compile(config);
+        return snapshot;
+    }
+
+    /**
+     * Re-resolves the current config's vent pairs against freshly loaded tags. Called on every
+     * tag reload; synchronized with {@link #publish} and {@link #compileAndPublish} so a concurrent
+     * file reload is never lost.
+     */
+    public static synchronized void refreshTags() {
+        snapshot = snapshot.recompile();
+        LOGGER.debug("[MoltenVents] Re-resolved vent pairs after tag reload — {} dormant block(s).", snapshot.pairs().size());
+    }
+
+    public static Path configPath() {
+        return FMLPaths.CONFIGDIR.get().resolve(FILE_NAME);
+    }
+
     /**
      * Loads (or creates) the config file.
      * Call during mod construction / FMLLoadCompleteEvent.
      */
     public static void load() {
-        Path configPath = FMLPaths.CONFIGDIR.get().resolve("molten_vents_activation.json");
+        Path configPath = configPath();
 
         if (!Files.exists(configPath)) {
             writeDefault(configPath);
         } else {
-            try (Reader reader = Files.newBufferedReader(configPath, StandardCharsets.UTF_8)) {
-                MoltenVentsActivationConfig loaded = GSON.fromJson(reader, MoltenVentsActivationConfig.class);
-                if (loaded != null) {
-                    INSTANCE = loaded;
-                    LOGGER.info("[MoltenVents] Loaded activation config — {} vent pair(s), activationTicks={}",
-                            INSTANCE.ventPairs.size(), INSTANCE.activationTicks);
+            try {
+                compileAndPublish(read(configPath));
+                LOGGER.info("[MoltenVents] Loaded activation config — {} vent pair(s), activationTicks={}",
+                        snapshot.pairs().size(), snapshot.activationTicks());
+            } catch (IOException | JsonParseException e) {
+                LOGGER.error("[MoltenVents] Failed to read activation config, using defaults.", e);
+            }
+        }
+    }
+
+    /**
+     * Re-parses the config file off-thread, then compiles and publishes it under the config lock
+     * (see {@link #compileAndPublish}). The new snapshot is only published if the file parses; on
+     * failure the previous config stays in effect and the future completes exceptionally. Starts or stops the file watcher to match the reloaded {@code watchConfigFile}.
+     */
+    public static CompletableFuture<VentActivationSnapshot> reloadAsync() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                VentActivationSnapshot loaded = compileAndPublish(read(configPath()));
+                if (loaded.watchConfigFile()) {
+                    VentActivationConfigWatcher.start(configPath());
                 } else {
-                    LOGGER.warn("[MoltenVents] Config file was empty or invalid, using defaults.");
+                    VentActivationConfigWatcher.stop();
                 }
-            } catch (IOException e) {
-                LOGGER.error("[MoltenVents] Failed to read activation config, using defaults.", e);
+                LOGGER.info("[MoltenVents] Reloaded activation config — {} vent pair(s), activationTicks={}",
+                        loaded.pairs().size(), loaded.activationTicks());
+                return loaded;
+            } catch (IOException | JsonParseException e) {
+                LOGGER.error("[MoltenVents] Failed to reload activation config, keeping the previous one.", e);
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }, RELOAD_EXECUTOR);
+    }
+
+    private static MoltenVentsActivationConfig read(Path configPath) throws IOException {
+        try (Reader reader = Files.newBufferedReader(configPath, StandardCharsets.UTF_8)) {
+            MoltenVentsActivationConfig loaded = GSON.fromJson(reader, MoltenVentsActivationConfig.class);
+            if (loaded == null) {
+                throw new JsonParseException("Config file is empty");
             }
+            return loaded;
         }
     }
 
@@ -110,35 +206,6 @@ public class MoltenVentsActivationConfig {
             LOGGER.error("[MoltenVents] Failed to write default activation config.", e);
         }
 
-        INSTANCE = defaults;
-    }
-
-    // -------------------------------------------------------------------------
-    //  Helpers
-    // -------------------------------------------------------------------------
-
-    /**
-     * Returns the active block registry ID for a given dormant block ID, or {@code null} if no
-     * mapping is configured.
-     */
-    public String getActiveId(String dormantBlockId) {
-        for (VentPair pair : ventPairs) {
-            if (pair.dormant != null && pair.dormant.equals(dormantBlockId)) {
-                return pair.active;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Returns {@code true} if the given block registry ID is listed as a dormant vent.
-     */
-    public boolean isDormantVent(String blockId) {
-        for (VentPair pair : ventPairs) {
-            if (pair.dormant != null && pair.dormant.equals(blockId)) {
-                return true;
-            }
-        }
-        return false;
+        compileAndPublish(defaults);
     }
 }
@@ -0,0 +1,134 @@
+package com.Apothic0n.MoltenVents.config;
+
+import com.mojang.logging.LogUtils;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.event.server.ServerStartedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional background watcher that re-loads the activation config whenever the file changes.
+ * Enabled with {@code "watchConfigFile": true}; runs on its own daemon thread and only ever
+ * publishes through {@link MoltenVentsActivationConfig#reloadAsync()}.
+ *
+ * Tied to the server's lifetime: started when a server starts and stopped when it stops, so
+ * leaving a singleplayer world and opening another does not leave a second watcher running.
+ */
+public final class VentActivationConfigWatcher {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /** Editors often write a file in several steps; wait this long after the last event before reloading. */
+    private static final long DEBOUNCE_MILLIS = 500;
+
+    private static Thread thread;
+    private static WatchService watchService;
+    /** Reloads finishing after the server stopped must not start a new watcher. */
+    private static boolean serverRunning;
+
+    private VentActivationConfigWatcher() {}
+
+    public static void register(IEventBus eventBus) {
+        eventBus.addListener(VentActivationConfigWatcher::onServerStarted);
+        eventBus.addListener(VentActivationConfigWatcher::onServerStopping);
+    }
+
+    private static void onServerStarted(ServerStartedEvent event) {
+        synchronized (VentActivationConfigWatcher.class) {
+            serverRunning = true;
+        }
+        if (MoltenVentsActivationConfig.current().watchConfigFile()) {
+            start(MoltenVentsActivationConfig.configPath());
+        }
+    }
+
+    private static void onServerStopping(ServerStoppingEvent event) {
+        synchronized (VentActivationConfigWatcher.class) {
+            serverRunning = false;
+            stop();
+        }
+    }
+
+    static synchronized void start(Path configPath) {
+        if (thread != null || !serverRunning) return;
+
+        WatchService service;
+        try {
+            service = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            LOGGER.error("[MoltenVents] Could not watch activation config for changes.", e);
+            return;
+        }
+        try {
+            configPath.getParent().register(service,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            LOGGER.error("[MoltenVents] Could not watch activation config for changes.", e);
+            closeQuietly(service);
+            return;
+        }
+
+        watchService = service;
+        thread = new Thread(() -> watch(service, configPath.getFileName()), "MoltenVents config watcher");
+        thread.setDaemon(true);
+        thread.start();
+        LOGGER.info("[MoltenVents] Watching {} for changes.", configPath);
+    }
+
+    /** Stops the watcher thread, if one is running, and waits briefly for it to exit. */
+    static synchronized void stop() {
+        if (thread == null) return;
+        closeQuietly(watchService);
+        thread.interrupt();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+        watchService = null;
+        LOGGER.info("[MoltenVents] Stopped watching the activation config.");
+    }
+
+    private static void closeQuietly(WatchService service) {
+        try {
+            service.close();
+        } catch (IOException e) {
+            LOGGER.warn("[MoltenVents] Could not close the config watch service.", e);
+        }
+    }
+
+    private static void watch(WatchService watchService, Path fileName) {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                // Drain bursts of events so one save triggers one reload
+                while (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (fileName.equals(event.context())) {
+                            changed = true;
+                        }
+                    }
+                    key.reset();
+                    key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (changed) {
+                    MoltenVentsActivationConfig.reloadAsync();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.Apothic0n.MoltenVents.config;
+
+import com.mojang.logging.LogUtils;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import org.slf4j.Logger;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validated, registry-resolved view of a {@link MoltenVentsActivationConfig}.
+ *
+ * Vent pairs (plain IDs, tags and wildcards, see {@link VentPattern}) are compiled into one
+ * identity map from dormant block to active state, so a lookup is a single hash probe however
+ * many vent types a pack defines, and the snapshot only holds an entry per dormant block. Tag
+ * entries are re-resolved through {@link #recompile()} whenever tags reload.
+ *
+ * Snapshots are immutable; {@link MoltenVentsActivationConfig} publishes a new one on every
+ * (re)load with a single volatile write, so the tick path can read it without locking.
+ */
+public final class VentActivationSnapshot {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /** Used before the config has loaded: no vent pairs, default timings. */
+    static final VentActivationSnapshot EMPTY = new VentActivationSnapshot(200, 10, 20, false, List.of(), List.of(), new Reference2ObjectOpenHashMap<>());
+
+    /** One resolved dormant → active pair, in config order. */
+    public record ResolvedPair(Block dormant, BlockState active) {}
+
+    private final int activationTicks;
+    private final int checkInterval;
+    private final int progressSyncInterval;
+    private final boolean watchConfigFile;
+    private final List<VentPattern> patterns;
+    private final List<ResolvedPair> pairs;
+    /** Dormant vent block → the state it converts into; never modified after construction */
+    private final Reference2ObjectOpenHashMap<Block, BlockState> activeStates;
+
+    private VentActivationSnapshot(int activationTicks, int checkInterval, int progressSyncInterval, boolean watchConfigFile,
+                                   List<VentPattern> patterns, List<ResolvedPair> pairs, Reference2ObjectOpenHashMap<Block, BlockState> activeStates) {
+        this.activationTicks = activationTicks;
+        this.checkInterval = checkInterval;
+        this.progressSyncInterval = progressSyncInterval;
+        this.watchConfigFile = watchConfigFile;
+        this.patterns = patterns;
+        this.pairs = pairs;
+        this.activeStates = activeStates;
+    }
+
+    /**
+     * Validates {@code config}, parses its vent pairs and resolves them against the block registry
+     * and whatever tags are currently bound. Malformed or unresolvable pairs are logged here and
+     * skipped. Must run after registries are frozen; safe to call off-thread.
+     */
+    public static VentActivationSnapshot compile(MoltenVentsActivationConfig config) {
+        int activationTicks = config.activationTicks;
+        if (activationTicks < 1) {
+            LOGGER.warn("[MoltenVents] activationTicks must be at least 1 (was {}), using 1.", activationTicks);
+            activationTicks = 1;
+        }
+        int checkInterval = config.checkInterval;
+        if (checkInterval < 1) {
+            LOGGER.warn("[MoltenVents] checkInterval must be at least 1 (was {}), using 1.", checkInterval);
+            checkInterval = 1;
+        }
+        int progressSyncInterval = config.progressSyncInterval;
+        if (progressSyncInterval < 0) {
+            LOGGER.warn("[MoltenVents] progressSyncInterval must not be negative (was {}), disabling progress sync.", progressSyncInterval);
+            progressSyncInterval = 0;
+        }
+
+        List<VentPattern> patterns = new ArrayList<>();
+        if (config.ventPairs != null) {
+            for (MoltenVentsActivationConfig.VentPair pair : config.ventPairs) {
+                if (pair == null) continue;
+                VentPattern pattern = VentPattern.parse(pair.dormant, pair.active);
+                if (pattern != null) {
+                    patterns.add(pattern);
+                }
+            }
+        }
+        return resolve(activationTicks, checkInterval, progressSyncInterval, config.watchConfigFile, List.copyOf(patterns));
+    }
+
+    /**
+     * Returns a snapshot with the same settings whose vent patterns are resolved again, picking
+     * up tag contents that changed since this one was compiled.
+     */
+    public VentActivationSnapshot recompile() {
+        return resolve(activationTicks, checkInterval, progressSyncInterval, watchConfigFile, patterns);
+    }
+
+    private static VentActivationSnapshot resolve(int activationTicks, int checkInterval, int progressSyncInterval,
+                                                  boolean watchConfigFile, List<VentPattern> patterns) {
+        List<ResolvedPair> pairs = new ArrayList<>();
+        Reference2ObjectOpenHashMap<Block, BlockState> activeStates = new Reference2ObjectOpenHashMap<>();
+        for (VentPattern pattern : patterns) {
+            pattern.resolve((dormant, active) -> {
+                BlockState activeState = active.defaultBlockState();
+                // Earlier pairs win, as with plain IDs
+                if (activeStates.putIfAbsent(dormant, activeState) == null) {
+                    pairs.add(new ResolvedPair(dormant, activeState));
+                }
+            });
+        }
+        activeStates.trim();
+        return new VentActivationSnapshot(activationTicks, checkInterval, progressSyncInterval, watchConfigFile,
+                patterns, List.copyOf(pairs), activeStates);
+    }
+
+    // -------------------------------------------------------------------------
+    //  Accessors
+    // -------------------------------------------------------------------------
+
+    /** How many ticks the blaze burner must be superheated before conversion */
+    public int activationTicks() {
+        return activationTicks;
+    }
+
+    /** How often (in ticks) blaze burners sitting on dormant vents are checked and advanced */
+    public int checkInterval() {
+        return checkInterval;
+    }
+
+    /** How often (in ticks) activation progress is sent to nearby players; 0 means never */
+    public int progressSyncInterval() {
+        return progressSyncInterval;
+    }
+
+    public boolean watchConfigFile() {
+        return watchConfigFile;
+    }
+
+    /** Every resolved pair, in config order. */
+    public List<ResolvedPair> pairs() {
+        return pairs;
+    }
+
+    /**
+     * Returns the state a dormant vent converts into, or {@code null} if {@code dormantState} is not
+     * a configured dormant vent.
+     */
+    @Nullable
+    public BlockState getActiveState(BlockState dormantState) {
+        return activeStates.get(dormantState.getBlock());
+    }
+
+    /** Same as {@link #getActiveState(BlockState)}; every state of a dormant block converts the same way. */
+    @Nullable
+    public BlockState getActiveState(Block dormantBlock) {
+        return activeStates.get(dormantBlock);
+    }
+}
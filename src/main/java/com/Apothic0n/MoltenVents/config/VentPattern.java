@@ -0,0 +1,184 @@
+package com.Apothic0n.MoltenVents.config;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.core.Holder;
+import net.minecraft.core.HolderSet;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.block.Block;
+import org.slf4j.Logger;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One parsed {@code dormant → active} entry of the activation config. The dormant side is one of:
+ * <ul>
+ *   <li>a block ID, {@code "modid:dormant_vent"};</li>
+ *   <li>a block tag, {@code "#modid:dormant_vents"} — every member converts into the single
+ *       {@code active} block;</li>
+ *   <li>a path wildcard, {@code "modid:*"} or {@code "modid:dormant_*_vent"} — each {@code *} in
+ *       {@code active} is replaced by the text the matching {@code *} in {@code dormant} captured,
+ *       so {@code "modid:dormant_*" → "modid:active_*"} pairs every dormant block with its twin.</li>
+ * </ul>
+ *
+ * Parsing happens once per config load; {@link #resolve} walks the registry (or tag) each time a
+ * snapshot is compiled, so tag entries follow datapack reloads.
+ */
+final class VentPattern {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private final String dormant;
+    private final String active;
+    @Nullable private final ResourceLocation blockId;
+    @Nullable private final TagKey<Block> tag;
+    @Nullable private final String namespace;
+    @Nullable private final Pattern pathPattern;
+
+    private VentPattern(String dormant, String active, @Nullable ResourceLocation blockId, @Nullable TagKey<Block> tag,
+                        @Nullable String namespace, @Nullable Pattern pathPattern) {
+        this.dormant = dormant;
+        this.active = active;
+        this.blockId = blockId;
+        this.tag = tag;
+        this.namespace = namespace;
+        this.pathPattern = pathPattern;
+    }
+
+    /** Parses one config pair, logging and returning {@code null} if it is malformed. */
+    @Nullable
+    static VentPattern parse(@Nullable String dormant, @Nullable String active) {
+        if (dormant == null || active == null) {
+            LOGGER.warn("[MoltenVents] Ignoring vent pair {} -> {}: both dormant and active are required.", dormant, active);
+            return null;
+        }
+        int activeWildcards = countWildcards(active);
+
+        if (dormant.startsWith("#")) {
+            ResourceLocation tagId = ResourceLocation.tryParse(dormant.substring(1));
+            if (tagId == null || activeWildcards > 0) {
+                LOGGER.warn("[MoltenVents] Ignoring vent pair {} -> {}: a tag needs a plain active block ID.", dormant, active);
+                return null;
+            }
+            return new VentPattern(dormant, active, null, TagKey.create(Registries.BLOCK, tagId), null, null);
+        }
+
+        int dormantWildcards = countWildcards(dormant);
+        if (dormantWildcards == 0) {
+            ResourceLocation id = ResourceLocation.tryParse(dormant);
+            if (id == null || activeWildcards > 0) {
+                LOGGER.warn("[MoltenVents] Ignoring vent pair {} -> {}: invalid block ID.", dormant, active);
+                return null;
+            }
+            return new VentPattern(dormant, active, id, null, null, null);
+        }
+
+        int colon = dormant.indexOf(':');
+        if (colon <= 0 || dormant.lastIndexOf('*', colon) >= 0
+                || (activeWildcards != 0 && activeWildcards != dormantWildcards)) {
+            LOGGER.warn("[MoltenVents] Ignoring vent pair {} -> {}: wildcards are only allowed in the path, "
+                    + "and active must use none or as many as dormant.", dormant, active);
+            return null;
+        }
+        StringBuilder regex = new StringBuilder();
+        String path = dormant.substring(colon + 1);
+        int start = 0;
+        for (int star = path.indexOf('*'); star >= 0; star = path.indexOf('*', start)) {
+            regex.append(Pattern.quote(path.substring(start, star))).append("(.*?)");
+            start = star + 1;
+        }
+        regex.append(Pattern.quote(path.substring(start)));
+        return new VentPattern(dormant, active, null, null, dormant.substring(0, colon), Pattern.compile(regex.toString()));
+    }
+
+    private static int countWildcards(String id) {
+        int count = 0;
+        for (int i = 0; i < id.length(); i++) {
+            if (id.charAt(i) == '*') count++;
+        }
+        return count;
+    }
+
+    /**
+     * Hands every registered dormant block this pattern matches to {@code sink}, together with the
+     * block it converts into. Tags resolve to nothing until they are bound.
+     */
+    void resolve(BiConsumer<Block, Block> sink) {
+        if (blockId != null) {
+            Block dormantBlock = BuiltInRegistries.BLOCK.getOptional(blockId).orElse(null);
+            Block activeBlock = resolveBlock(active);
+            if (dormantBlock == null || activeBlock == null) {
+                LOGGER.warn("[MoltenVents] Ignoring vent pair {} -> {}: block(s) not found in registry.", dormant, active);
+                return;
+            }
+            sink.accept(dormantBlock, activeBlock);
+            return;
+        }
+
+        if (tag != null) {
+            Block activeBlock = resolveBlock(active);
+            if (activeBlock == null) {
+                LOGGER.warn("[MoltenVents] Ignoring vent pair {} -> {}: active block not found in registry.", dormant, active);
+                return;
+            }
+            Optional<HolderSet.Named<Block>> members = BuiltInRegistries.BLOCK.getTag(tag);
+            if (members.isPresent()) {
+                for (Holder<Block> holder : members.get()) {
+                    sink.accept(holder.value(), activeBlock);
+                }
+            }
+            return;
+        }
+
+        int matched = 0;
+        for (Map.Entry<ResourceKey<Block>, Block> entry : BuiltInRegistries.BLOCK.entrySet()) {
+            ResourceLocation id = entry.getKey().location();
+            if (!id.getNamespace().equals(namespace)) continue;
+            Matcher matcher = pathPattern.matcher(id.getPath());
+            if (!matcher.matches()) continue;
+            Block activeBlock = resolveBlock(substitute(matcher));
+            if (activeBlock != null) {
+                sink.accept(entry.getValue(), activeBlock);
+                matched++;
+            }
+        }
+        if (matched == 0) {
+            LOGGER.warn("[MoltenVents] Vent pair {} -> {} matched no registered blocks.", dormant, active);
+        }
+    }
+
+    /** Replaces each {@code *} in {@code active} with the corresponding capture from {@code matcher}. */
+    private String substitute(Matcher matcher) {
+        if (active.indexOf('*') < 0) {
+            return active;
+        }
+        StringBuilder result = new StringBuilder(active.length() + 16);
+        int group = 1;
+        for (int i = 0; i < active.length(); i++) {
+            char c = active.charAt(i);
+            if (c == '*') {
+                result.append(matcher.group(group++));
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    @Nullable
+    private static Block resolveBlock(String id) {
+        ResourceLocation location = ResourceLocation.tryParse(id);
+        if (location == null) {
+            return null;
+        }
+        return BuiltInRegistries.BLOCK.getOptional(location).orElse(null);
+    }
+}
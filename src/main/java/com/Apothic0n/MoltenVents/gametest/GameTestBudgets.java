@@ -0,0 +1,81 @@
+package com.Apothic0n.MoltenVents.gametest;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.mojang.logging.LogUtils;
+import net.minecraft.gametest.framework.GameTestHelper;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Checked-in wall-time budgets for {@link MoltenVentsGameTests}, read from
+ * {@code data/molten_vents/gametest/budgets.json}.
+ *
+ * Wall time on a shared or throttled machine says little about the code, so by default an overrun
+ * is only logged and the tests assert on behaviour alone. Pass
+ * {@code -Dmoltenvents.gametest.enforceBudgets=true} to fail the test on an overrun instead, e.g. on
+ * a dedicated benchmark machine. Budgets can be scaled with
+ * {@code -Dmoltenvents.gametest.budgetScale=<factor>}.
+ */
+final class GameTestBudgets {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final String RESOURCE = "/data/molten_vents/gametest/budgets.json";
+    private static final double SCALE = Double.parseDouble(System.getProperty("moltenvents.gametest.budgetScale", "1"));
+    private static final boolean ENFORCE = Boolean.getBoolean("moltenvents.gametest.enforceBudgets");
+    private static final Map<String, Double> BUDGETS_MILLIS = load();
+
+    private GameTestBudgets() {}
+
+    /**
+     * Logs {@code elapsedNanos} against the budget for {@code key}, warning on an overrun. Fails the
+     * test on an overrun only when budgets are enforced.
+     */
+    static void check(GameTestHelper helper, String key, long elapsedNanos) {
+        Double budget = BUDGETS_MILLIS.get(key);
+        if (budget == null) {
+            LOGGER.warn("[MoltenVents] No wall-time budget for game test {} in {}", key, RESOURCE);
+            return;
+        }
+        double elapsedMillis = elapsedNanos / 1_000_000.0;
+        double limitMillis = budget * SCALE;
+        LOGGER.info("[MoltenVents] GameTest {} took {} ms (budget {} ms)",
+                key, String.format("%.3f", elapsedMillis), String.format("%.1f", limitMillis));
+        if (elapsedMillis > limitMillis) {
+            String message = String.format("%s took %.3f ms, over its %.1f ms budget", key, elapsedMillis, limitMillis);
+            if (ENFORCE) {
+                helper.fail(message);
+            }
+            LOGGER.warn("[MoltenVents] GameTest {}", message);
+        }
+    }
+
+    private static Map<String, Double> load() {
+        Map<String, Double> budgets = new HashMap<>();
+        try (InputStream stream = GameTestBudgets.class.getResourceAsStream(RESOURCE)) {
+            if (stream == null) {
+                LOGGER.error("[MoltenVents] Missing game test budgets at {}", RESOURCE);
+                return budgets;
+            }
+            try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+                JsonObject json = new Gson().fromJson(reader, JsonObject.class);
+                for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
+                    if (entry.getValue().isJsonPrimitive() && entry.getValue().getAsJsonPrimitive().isNumber()) {
+                        budgets.put(entry.getKey(), entry.getValue().getAsDouble());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("[MoltenVents] Failed to read game test budgets.", e);
+        }
+        return budgets;
+    }
+}
@@ -0,0 +1,279 @@
+package com.Apothic0n.MoltenVents.gametest;
+
+import com.Apothic0n.MoltenVents.MoltenVents;
+import com.Apothic0n.MoltenVents.activation.VentActivationProgress;
+import com.Apothic0n.MoltenVents.activation.VentActivationTarget;
+import com.Apothic0n.MoltenVents.api.biome.features.configurations.MoltenVentConfiguration;
+import com.Apothic0n.MoltenVents.api.biome.features.types.MoltenVentFeature;
+import com.Apothic0n.MoltenVents.config.MoltenVentsActivationConfig;
+import com.Apothic0n.MoltenVents.config.VentActivationSnapshot;
+import com.Apothic0n.MoltenVents.worldgen.VentFluidTicks;
+import com.simibubi.create.AllBlocks;
+import com.simibubi.create.content.processing.burner.BlazeBurnerBlock;
+import com.simibubi.create.content.processing.burner.BlazeBurnerBlockEntity;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.AfterBatch;
+import net.minecraft.gametest.framework.BeforeBatch;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.FluidTags;
+import net.minecraft.util.RandomSource;
+import net.minecraft.util.valueproviders.ConstantInt;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
+import net.minecraft.world.level.levelgen.feature.stateproviders.BlockStateProvider;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.AABB;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.util.Optional;
+
+/**
+ * Game tests for vent placement and vent activation, run headless with {@code ./gradlew runGameTestServer}.
+ *
+ * Tests assert on behaviour only. Wall time is logged against {@link GameTestBudgets}, which
+ * fails a test on an overrun only when budgets are enforced.
+ *
+ * Placement here goes into the live {@link ServerLevel}, so the worldgen-only paths of
+ * {@code VentBlockBuffer} are not covered: deferring spillover to undecorated neighbours, direct
+ * {@code ProtoChunk} section writes and the {@code UPDATE_CLIENTS} flush flags all need a
+ * {@code WorldGenRegion}, which cannot be built outside chunk generation.
+ */
+@GameTestHolder(MoltenVents.MODID)
+@PrefixGameTestTemplate(false)
+public class MoltenVentsGameTests {
+
+    /** 16x40x16 of air; each test builds its own terrain inside it. */
+    private static final String TEMPLATE = "empty_16x40x16";
+    private static final int SIZE_X = 16;
+    private static final int SIZE_Y = 40;
+    private static final int SIZE_Z = 16;
+
+    // ---- placement ----------------------------------------------------------------
+
+    private static final MoltenVentFeature FEATURE = new MoltenVentFeature(MoltenVentConfiguration.CODEC);
+    /** Relative vent origin; the deepest shaft cell ends up at y = 30 - (DEPTH + 1), inside the template. */
+    private static final BlockPos ORIGIN = new BlockPos(8, 30, 8);
+    private static final int DEPTH = 24;
+    private static final long SEED = 20241017L;
+
+    @GameTest(template = TEMPLATE)
+    public static void surfaceVent(GameTestHelper helper) {
+        placeVent(helper, "surface_vent", false, false);
+    }
+
+    @GameTest(template = TEMPLATE)
+    public static void underwaterVent(GameTestHelper helper) {
+        placeVent(helper, "underwater_vent", true, false);
+    }
+
+    @GameTest(template = TEMPLATE)
+    public static void surfaceVentFluidStable(GameTestHelper helper) {
+        placeVent(helper, "surface_vent_fluid_stable", false, true);
+    }
+
+    @GameTest(template = TEMPLATE)
+    public static void underwaterVentFluidStable(GameTestHelper helper) {
+        placeVent(helper, "underwater_vent_fluid_stable", true, true);
+    }
+
+    /**
+     * Places one vent into solid stone with a cave running down beside its shaft, then checks
+     * the shaft is exactly {@link #DEPTH} lava blocks with the inner block on top, and, for
+     * fluid-stable vents, that no lava can flow out.
+     */
+    private static void placeVent(GameTestHelper helper, String budgetKey, boolean underwater, boolean fluidStable) {
+        ServerLevel level = helper.getLevel();
+        fill(helper, 1, ORIGIN.getY() - 1, Blocks.STONE.defaultBlockState());
+        if (underwater) {
+            fill(helper, ORIGIN.getY(), ORIGIN.getY() + 3, Blocks.WATER.defaultBlockState());
+        }
+        for (int y = ORIGIN.getY() - DEPTH; y <= ORIGIN.getY() - 8; y++) {
+            level.setBlock(helper.absolutePos(new BlockPos(ORIGIN.getX() + 1, y, ORIGIN.getZ())), Blocks.CAVE_AIR.defaultBlockState(), Block.UPDATE_CLIENTS);
+        }
+
+        MoltenVentConfiguration configuration = new MoltenVentConfiguration(
+                BlockStateProvider.simple(Blocks.MAGMA_BLOCK),
+                BlockStateProvider.simple(Blocks.BASALT),
+                BlockStateProvider.simple(Blocks.MAGMA_BLOCK),
+                BlockStateProvider.simple(Blocks.LAVA),
+                ConstantInt.of(DEPTH),
+                underwater,
+                fluidStable,
+                DimensionType.MIN_Y,
+                false);
+        BlockPos origin = helper.absolutePos(ORIGIN);
+
+        long start = System.nanoTime();
+        boolean placed = FEATURE.place(new FeaturePlaceContext<>(Optional.empty(), level, level.getChunkSource().getGenerator(),
+                RandomSource.create(SEED), origin, configuration));
+        long elapsed = System.nanoTime() - start;
+
+        helper.assertTrue(placed, "Vent was rejected by the suitability checks");
+        helper.assertBlockPresent(Blocks.MAGMA_BLOCK, ORIGIN.below());
+        helper.assertBlockPresent(underwater ? Blocks.WATER : Blocks.AIR, ORIGIN);
+
+        int lava = 0;
+        AABB bounds = helper.getBounds();
+        for (BlockPos pos : BlockPos.betweenClosed(helper.absolutePos(BlockPos.ZERO), helper.absolutePos(new BlockPos(SIZE_X - 1, SIZE_Y - 1, SIZE_Z - 1)))) {
+            FluidState fluid = level.getFluidState(pos);
+            if (!fluid.is(FluidTags.LAVA)) continue;
+            lava++;
+            if (fluidStable && VentFluidTicks.isExposed(fluid, pos.asLong(), p -> level.getBlockState(BlockPos.of(p)))) {
+                helper.fail("Lava can flow out of a fluid-stable vent", helper.relativePos(pos));
+                return;
+            }
+        }
+        if (lava != DEPTH) {
+            helper.fail("Expected " + DEPTH + " lava blocks in the shaft, found " + lava + " in " + bounds);
+            return;
+        }
+
+        GameTestBudgets.check(helper, budgetKey, elapsed);
+        helper.succeed();
+    }
+
+    /** Fills relative layers {@code fromY..toY} (inclusive) of the template. */
+    private static void fill(GameTestHelper helper, int fromY, int toY, BlockState state) {
+        ServerLevel level = helper.getLevel();
+        for (BlockPos pos : BlockPos.betweenClosed(helper.absolutePos(new BlockPos(0, fromY, 0)), helper.absolutePos(new BlockPos(SIZE_X - 1, toY, SIZE_Z - 1)))) {
+            level.setBlock(pos, state, Block.UPDATE_CLIENTS);
+        }
+    }
+
+    // ---- activation ---------------------------------------------------------------
+
+    private static final String ACTIVATION_BATCH = "molten_vents_activation";
+    /** Same pair, but regular passes only every {@link #COARSE_CHECK_INTERVAL} ticks. */
+    private static final String COARSE_ACTIVATION_BATCH = "molten_vents_activation_coarse";
+    private static final int ACTIVATION_TICKS = 60;
+    /** Does not divide {@link #ACTIVATION_TICKS}, so the deadline falls between two regular passes. */
+    private static final int COARSE_CHECK_INTERVAL = 7;
+    private static final Block DORMANT = Blocks.SMOOTH_BASALT;
+    private static final Block ACTIVE = Blocks.MAGMA_BLOCK;
+    private static final BlockPos VENT_POS = new BlockPos(1, 1, 1);
+    private static final BlockPos BURNER_POS = VENT_POS.above();
+
+    private static VentActivationSnapshot previousConfig;
+
+    /** Swaps in a config with a single test pair, checked every tick. */
+    @BeforeBatch(batch = ACTIVATION_BATCH)
+    public static void useTestConfig(ServerLevel level) {
+        useTestConfig(1);
+    }
+
+    @BeforeBatch(batch = COARSE_ACTIVATION_BATCH)
+    public static void useCoarseTestConfig(ServerLevel level) {
+        useTestConfig(COARSE_CHECK_INTERVAL);
+    }
+
+    private static void useTestConfig(int checkInterval) {
+        MoltenVentsActivationConfig config = new MoltenVentsActivationConfig();
+        config.activationTicks = ACTIVATION_TICKS;
+        config.checkInterval = checkInterval;
+        config.ventPairs.add(new MoltenVentsActivationConfig.VentPair("minecraft:smooth_basalt", "minecraft:magma_block"));
+        previousConfig = MoltenVentsActivationConfig.current();
+        MoltenVentsActivationConfig.publish(VentActivationSnapshot.compile(config));
+    }
+
+    @AfterBatch(batch = ACTIVATION_BATCH)
+    public static void restoreConfig(ServerLevel level) {
+        MoltenVentsActivationConfig.publish(previousConfig);
+    }
+
+    @AfterBatch(batch = COARSE_ACTIVATION_BATCH)
+    public static void restoreCoarseConfig(ServerLevel level) {
+        MoltenVentsActivationConfig.publish(previousConfig);
+    }
+
+    /**
+     * Drives a seething burner directly with explicit game times: the first call arms the timer
+     * and the vent must convert exactly {@code activationTicks} ticks later, not one tick sooner.
+     */
+    @GameTest(template = TEMPLATE, batch = ACTIVATION_BATCH)
+    public static void burnerConvertsAtActivationTicks(GameTestHelper helper) {
+        helper.setBlock(VENT_POS, DORMANT);
+        helper.setBlock(BURNER_POS, AllBlocks.BLAZE_BURNER.getDefaultState()
+                .setValue(BlazeBurnerBlock.HEAT_LEVEL, BlazeBurnerBlock.HeatLevel.SEETHING));
+        if (!(helper.getBlockEntity(BURNER_POS) instanceof VentActivationTarget target)) {
+            helper.fail("Blaze burner is missing the activation mixin", BURNER_POS);
+            return;
+        }
+        BlockState activeState = MoltenVentsActivationConfig.current().getActiveState(DORMANT);
+        helper.assertTrue(activeState != null && activeState.is(ACTIVE), "Test vent pair did not resolve");
+
+        long start = System.nanoTime();
+        long armedAt = helper.getLevel().getGameTime();
+        helper.assertTrue(target.moltenVents$advanceActivation(activeState, armedAt), "Timer did not start");
+        for (int tick = 1; tick < ACTIVATION_TICKS; tick++) {
+            helper.assertTrue(target.moltenVents$advanceActivation(activeState, armedAt + tick), "Timer stopped early at tick " + tick);
+            helper.assertBlockPresent(DORMANT, VENT_POS);
+        }
+        helper.assertFalse(target.moltenVents$advanceActivation(activeState, armedAt + ACTIVATION_TICKS), "Timer still running after conversion");
+        long elapsed = System.nanoTime() - start;
+        helper.assertBlockPresent(ACTIVE, VENT_POS);
+
+        GameTestBudgets.check(helper, "burner_activation", elapsed);
+        helper.succeed();
+    }
+
+    /**
+     * Same conversion end to end: the tracker has to pick the burner up from the block placement
+     * and must not convert the vent before {@code activationTicks} have passed.
+     */
+    @GameTest(template = TEMPLATE, batch = ACTIVATION_BATCH, timeoutTicks = ACTIVATION_TICKS + 40)
+    public static void trackerConvertsDormantVent(GameTestHelper helper) {
+        if (!placeSeethingBurner(helper)) return;
+
+        helper.startSequence()
+                .thenExecuteAfter(ACTIVATION_TICKS - 1, () -> helper.assertBlockPresent(DORMANT, VENT_POS))
+                .thenWaitUntil(() -> helper.assertBlockPresent(ACTIVE, VENT_POS))
+                .thenSucceed();
+    }
+
+    /**
+     * With regular passes only every {@link #COARSE_CHECK_INTERVAL} ticks, the vent must still
+     * convert on the exact tick its timer is due rather than at the next regular pass.
+     */
+    @GameTest(template = TEMPLATE, batch = COARSE_ACTIVATION_BATCH, timeoutTicks = ACTIVATION_TICKS + 2 * COARSE_CHECK_INTERVAL + 40)
+    public static void trackerConvertsOnDeadlineBetweenChecks(GameTestHelper helper) {
+        if (!placeSeethingBurner(helper)) return;
+
+        ServerLevel level = helper.getLevel();
+        VentActivationProgress progress = VentActivationProgress.get(level);
+        long burnerPos = helper.absolutePos(BURNER_POS).asLong();
+        long[] deadline = {Long.MIN_VALUE};
+        long[] convertedAt = {Long.MIN_VALUE};
+        helper.onEachTick(() -> {
+            if (progress.isRunning(burnerPos)) {
+                deadline[0] = progress.deadline(burnerPos);
+            } else if (convertedAt[0] == Long.MIN_VALUE && helper.getBlockState(VENT_POS).is(ACTIVE)) {
+                convertedAt[0] = level.getGameTime();
+            }
+        });
+        helper.succeedWhen(() -> {
+            helper.assertTrue(convertedAt[0] != Long.MIN_VALUE, "Vent has not converted yet");
+            helper.assertTrue(convertedAt[0] == deadline[0],
+                    "Vent converted at game time " + convertedAt[0] + ", its timer was due at " + deadline[0]);
+        });
+    }
+
+    /** Puts a dormant vent with a blaze burner on top that creative fuel keeps seething. */
+    private static boolean placeSeethingBurner(GameTestHelper helper) {
+        helper.setBlock(VENT_POS, DORMANT);
+        helper.setBlock(BURNER_POS, AllBlocks.BLAZE_BURNER.getDefaultState()
+                .setValue(BlazeBurnerBlock.HEAT_LEVEL, BlazeBurnerBlock.HeatLevel.KINDLED));
+        if (!(helper.getBlockEntity(BURNER_POS) instanceof BlazeBurnerBlockEntity burner)) {
+            helper.fail("Blaze burner block entity is missing", BURNER_POS);
+            return false;
+        }
+        // Creative fuel steps KINDLED up to SEETHING and keeps it there without burning out
+        burner.applyCreativeFuel();
+        return true;
+    }
+}
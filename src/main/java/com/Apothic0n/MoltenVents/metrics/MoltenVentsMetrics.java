@@ -0,0 +1,47 @@
+package com.Apothic0n.MoltenVents.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide counters for vent placement and vent activation, shown by {@code /moltenvents stats}.
+ *
+ * Everything here is striped ({@link LongAdder}) or lock-free, so worldgen threads and the server
+ * thread can record without contending. Counters are cumulative since start-up or the last
+ * {@link #reset()}.
+ */
+public final class MoltenVentsMetrics {
+
+    // ---- placement (worldgen threads) ------------------------------------------
+
+    public static final LongAdder PLACE_CALLS = new LongAdder();
+    public static final LongAdder PLACE_ACCEPTED = new LongAdder();
+    public static final LongAdder PLACE_REJECTED = new LongAdder();
+    public static final LongAdder BLOCKS_WRITTEN = new LongAdder();
+    public static final LatencyHistogram PLACE_NANOS = new LatencyHistogram();
+
+    // ---- activation (server thread) --------------------------------------------
+
+    public static final LongAdder CONVERSIONS = new LongAdder();
+
+    private MoltenVentsMetrics() {}
+
+    public static void recordPlacement(boolean accepted, int blocksWritten, long nanos) {
+        PLACE_CALLS.increment();
+        if (accepted) {
+            PLACE_ACCEPTED.increment();
+            BLOCKS_WRITTEN.add(blocksWritten);
+        } else {
+            PLACE_REJECTED.increment();
+        }
+        PLACE_NANOS.record(nanos);
+    }
+
+    public static void reset() {
+        PLACE_CALLS.reset();
+        PLACE_ACCEPTED.reset();
+        PLACE_REJECTED.reset();
+        BLOCKS_WRITTEN.reset();
+        PLACE_NANOS.reset();
+        CONVERSIONS.reset();
+    }
+}
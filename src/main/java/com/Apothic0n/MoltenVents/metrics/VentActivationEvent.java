@@ -0,0 +1,36 @@
+package com.Apothic0n.MoltenVents.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a dormant vent being converted by a superheated blaze burner. Disabled by
+ * default; enable it with {@code moltenvents.VentActivation#enabled=true}.
+ */
+@Name("moltenvents.VentActivation")
+@Label("Vent Activation")
+@Category({"Molten Vents", "Activation"})
+@Description("A dormant vent converted into its active counterpart")
+@Enabled(false)
+@StackTrace(false)
+public class VentActivationEvent extends jdk.jfr.Event {
+
+    @Label("Burner X")
+    public int burnerX;
+
+    @Label("Burner Y")
+    public int burnerY;
+
+    @Label("Burner Z")
+    public int burnerZ;
+
+    @Label("Dormant Block")
+    public String dormantBlock;
+
+    @Label("Active Block")
+    public String activeBlock;
+}
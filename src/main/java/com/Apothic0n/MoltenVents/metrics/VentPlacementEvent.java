@@ -0,0 +1,45 @@
+package com.Apothic0n.MoltenVents.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one {@code MoltenVentFeature.place} call. Disabled by default; enable it in a
+ * recording with {@code moltenvents.VentPlacement#enabled=true} (or a .jfc settings file).
+ */
+@Name("moltenvents.VentPlacement")
+@Label("Vent Placement")
+@Category({"Molten Vents", "World Generation"})
+@Description("A molten vent feature placement attempt")
+@Enabled(false)
+@StackTrace(false)
+public class VentPlacementEvent extends jdk.jfr.Event {
+
+    public static final String REJECT_NO_WATER_ABOVE = "no_water_above";
+    public static final String REJECT_WATER_BELOW = "water_below";
+    public static final String REJECT_NOT_SOLID = "not_solid";
+
+    @Label("Chunk X")
+    public int chunkX;
+
+    @Label("Chunk Z")
+    public int chunkZ;
+
+    @Label("Depth")
+    public int depth;
+
+    @Label("Underwater")
+    public boolean underwater;
+
+    @Label("Blocks Written")
+    @Description("Blocks written during the call; excludes writes deferred to undecorated chunks")
+    public int blocks;
+
+    @Label("Rejection Reason")
+    @Description("Why the suitability checks rejected the origin, or null if the vent was placed")
+    public String rejectionReason;
+}
@@ -0,0 +1,251 @@
+package com.Apothic0n.MoltenVents.metrics;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.storage.LevelResource;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.event.server.ServerStartedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import org.slf4j.Logger;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Optional JSON-lines log of every vent placed, for offline density analysis.
+ *
+ * Worldgen threads only ever append to a bounded lock-free queue; when it is full the record is
+ * counted as dropped instead of waiting. A single daemon thread drains the queue through a
+ * buffered {@link FileChannel} into {@code <world>/molten_vents/exports/vents-<start>-<n>.jsonl},
+ * starting a new file every {@link #ROTATE_BYTES}. Files are append-only and never rewritten.
+ *
+ * Started with {@code /moltenvents export start} or at server start with
+ * {@code -Dmoltenvents.exportVents=true}; stopped with the server or {@code /moltenvents export stop}.
+ */
+public final class VentPlacementExporter {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    static final int QUEUE_CAPACITY = 1 << 16;
+    static final long ROTATE_BYTES = 64L << 20;
+    private static final int BUFFER_BYTES = 64 << 10;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long DROP_REPORT_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /** The running exporter, or {@code null}; the only thing worldgen threads read. */
+    @Nullable private static volatile VentPlacementExporter active;
+
+    private record Placement(ResourceKey<Level> dimension, long origin, int depth, boolean underwater,
+                             int blocks, long nanos, long timestamp) {}
+
+    private final ConcurrentLinkedQueue<Placement> queue = new ConcurrentLinkedQueue<>();
+    /** Approximate queue length; {@link ConcurrentLinkedQueue#size()} is O(n) */
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final Path directory;
+    private final String filePrefix;
+    private final Thread writer;
+    private volatile boolean running = true;
+    private volatile Path currentFile;
+    /** Writer thread only */
+    private FileChannel channel;
+    private int fileIndex;
+
+    private VentPlacementExporter(Path directory) {
+        this.directory = directory;
+        this.filePrefix = "vents-" + LocalDateTime.now().format(FILE_STAMP) + "-";
+        this.writer = new Thread(this::run, "MoltenVents vent export");
+        this.writer.setDaemon(true);
+    }
+
+    public static void register(IEventBus eventBus) {
+        eventBus.addListener(VentPlacementExporter::onServerStarted);
+        eventBus.addListener(VentPlacementExporter::onServerStopping);
+    }
+
+    private static void onServerStarted(ServerStartedEvent event) {
+        if (Boolean.getBoolean("moltenvents.exportVents")) {
+            start(directory(event.getServer()));
+        }
+    }
+
+    /** Where a server's exports go: {@code <world>/molten_vents/exports}. */
+    public static Path directory(MinecraftServer server) {
+        return server.getWorldPath(LevelResource.ROOT).resolve("molten_vents").resolve("exports");
+    }
+
+    private static void onServerStopping(ServerStoppingEvent event) {
+        stop();
+    }
+
+    // -------------------------------------------------------------------------
+    //  Control
+    // -------------------------------------------------------------------------
+
+    /** Starts exporting into {@code directory}. Returns {@code false} if already running or the directory is unusable. */
+    public static synchronized boolean start(Path directory) {
+        if (active != null) return false;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            LOGGER.error("[MoltenVents] Could not create vent export directory {}.", directory, e);
+            return false;
+        }
+        VentPlacementExporter exporter = new VentPlacementExporter(directory);
+        active = exporter;
+        exporter.writer.start();
+        LOGGER.info("[MoltenVents] Exporting placed vents to {}", directory);
+        return true;
+    }
+
+    /** Stops exporting, writing out whatever is still queued first. Returns {@code false} if it was not running. */
+    public static synchronized boolean stop() {
+        VentPlacementExporter exporter = active;
+        if (exporter == null) return false;
+        active = null;
+        exporter.running = false;
+        LockSupport.unpark(exporter.writer);
+        try {
+            exporter.writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOGGER.info("[MoltenVents] Stopped vent export: {} written, {} dropped.", exporter.written.sum(), exporter.dropped.sum());
+        return true;
+    }
+
+    public static boolean isRunning() {
+        return active != null;
+    }
+
+    /** One-line status for {@code /moltenvents stats}. */
+    public static String describe() {
+        VentPlacementExporter exporter = active;
+        if (exporter == null) {
+            return "Export: off";
+        }
+        return String.format("Export: %s, %d written, %d dropped, %d queued",
+                exporter.currentFile == null ? exporter.directory : exporter.currentFile,
+                exporter.written.sum(), exporter.dropped.sum(), exporter.queued.get());
+    }
+
+    // -------------------------------------------------------------------------
+    //  Producer side (worldgen threads)
+    // -------------------------------------------------------------------------
+
+    /** Queues one placed vent if the exporter is running. Never blocks. */
+    public static void record(ResourceKey<Level> dimension, BlockPos origin, int depth, boolean underwater, int blocks, long nanos) {
+        VentPlacementExporter exporter = active;
+        if (exporter == null) return;
+        if (exporter.queued.incrementAndGet() > QUEUE_CAPACITY) {
+            exporter.queued.decrementAndGet();
+            exporter.dropped.increment();
+            return;
+        }
+        exporter.queue.offer(new Placement(dimension, origin.asLong(), depth, underwater, blocks, nanos, System.currentTimeMillis()));
+    }
+
+    // -------------------------------------------------------------------------
+    //  Writer thread
+    // -------------------------------------------------------------------------
+
+    private void run() {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+        StringBuilder line = new StringBuilder(160);
+        long lastDropReport = System.nanoTime();
+        long reportedDrops = 0;
+        try {
+            channel = open();
+            while (running || !queue.isEmpty()) {
+                Placement placement = queue.poll();
+                if (placement == null) {
+                    flush(buffer);
+                    long drops = dropped.sum();
+                    if (drops != reportedDrops && System.nanoTime() - lastDropReport >= DROP_REPORT_NANOS) {
+                        LOGGER.warn("[MoltenVents] Vent export queue full, dropped {} record(s) ({} total).", drops - reportedDrops, drops);
+                        reportedDrops = drops;
+                        lastDropReport = System.nanoTime();
+                    }
+                    if (running) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    continue;
+                }
+                queued.decrementAndGet();
+
+                byte[] bytes = encode(placement, line);
+                if (buffer.remaining() < bytes.length) {
+                    flush(buffer);
+                }
+                buffer.put(bytes);
+                written.increment();
+            }
+            flush(buffer);
+        } catch (IOException e) {
+            LOGGER.error("[MoltenVents] Vent export failed, stopping it.", e);
+            synchronized (VentPlacementExporter.class) {
+                if (active == this) active = null;
+            }
+        } finally {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    LOGGER.error("[MoltenVents] Could not close vent export file {}.", currentFile, e);
+                }
+            }
+        }
+    }
+
+    /** Writes out the buffered lines, then moves on to a new file once the current one is full. Writer thread only. */
+    private void flush(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        if (channel.position() >= ROTATE_BYTES) {
+            channel.close();
+            channel = open();
+        }
+    }
+
+    private FileChannel open() throws IOException {
+        Path file = directory.resolve(filePrefix + fileIndex++ + ".jsonl");
+        currentFile = file;
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static byte[] encode(Placement placement, StringBuilder line) {
+        line.setLength(0);
+        line.append("{\"dimension\":\"").append(placement.dimension().location())
+                .append("\",\"x\":").append(BlockPos.getX(placement.origin()))
+                .append(",\"y\":").append(BlockPos.getY(placement.origin()))
+                .append(",\"z\":").append(BlockPos.getZ(placement.origin()))
+                .append(",\"depth\":").append(placement.depth())
+                .append(",\"underwater\":").append(placement.underwater())
+                .append(",\"blocks\":").append(placement.blocks())
+                .append(",\"placeNanos\":").append(placement.nanos())
+                .append(",\"timestamp\":").append(placement.timestamp())
+                .append("}\n");
+        return line.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
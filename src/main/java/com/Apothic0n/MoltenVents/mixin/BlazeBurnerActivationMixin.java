@@ -1,36 +1,43 @@
 package com.Apothic0n.MoltenVents.mixin;
 
+import com.Apothic0n.MoltenVents.activation.VentActivationProgress;
+import com.Apothic0n.MoltenVents.activation.VentActivationTarget;
+import com.Apothic0n.MoltenVents.activation.VentActivationTracker;
 import com.Apothic0n.MoltenVents.config.MoltenVentsActivationConfig;
+import com.Apothic0n.MoltenVents.config.VentActivationSnapshot;
+import com.Apothic0n.MoltenVents.metrics.MoltenVentsMetrics;
+import com.Apothic0n.MoltenVents.metrics.VentActivationEvent;
 import com.simibubi.create.content.processing.burner.BlazeBurnerBlock;
 import com.simibubi.create.content.processing.burner.BlazeBurnerBlockEntity;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.BuiltInRegistries;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
-import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-
-import java.util.Optional;
 
 /**
  * Injects into {@link BlazeBurnerBlockEntity} to detect when a blaze burner is
  * superheated while sitting on top of a dormant vent block.
  *
- * After {@link MoltenVentsActivationConfig#activationTicks} ticks of continuous
+ * After {@link VentActivationSnapshot#activationTicks()} ticks of continuous
  * superheating, the dormant vent is replaced by its configured active counterpart.
  *
- * BlockEntity-inherited methods (getBlockPos, getLevel, setChanged, hasLevel) are
+ * The burner's own tick is not touched: {@link VentActivationTracker} only keeps burners
+ * that sit on a dormant vent and advances them every
+ * {@link VentActivationSnapshot#checkInterval()} ticks through {@link VentActivationTarget}.
+ * Progress is a game-time deadline in the level's {@link VentActivationProgress}, so the burner
+ * itself is never written to (or synced) while it heats up.
+ *
+ * BlockEntity-inherited methods (getBlockPos, getLevel) are
  * accessed via a (BlockEntity) cast to avoid needing a refMap for obfuscated names.
  * Only Create-owned methods use @Shadow (remap=false).
  */
 @Mixin(value = BlazeBurnerBlockEntity.class, remap = false)
-public abstract class BlazeBurnerActivationMixin {
+public abstract class BlazeBurnerActivationMixin implements VentActivationTarget {
 
     // ---- shadows (Create methods — remap=false is correct) ---------------------
 
@@ -38,12 +45,7 @@ public abstract class BlazeBurnerActivationMixin {
     public abstract BlazeBurnerBlock.HeatLevel getHeatLevelFromBlock();
 
     // isVirtual() is on SmartBlockEntity (parent) — not shadowed to avoid Ponder compile dep.
-    // Ponder virtual worlds are client-side, so the isClientSide() guard in the tick is sufficient.
-
-    // ---- unique state ----------------------------------------------------------
-
-    @Unique
-    private int moltenVents$conversionTimer = -1;
+    // Ponder virtual worlds are client-side, and the tracker only runs on server levels.
 
     // ---- helper ----------------------------------------------------------------
 
@@ -53,70 +55,49 @@ public abstract class BlazeBurnerActivationMixin {
         return (BlockEntity) (Object) this;
     }
 
+    // ---- activation (driven by VentActivationTracker) ---------------------------
 
+    @Override
+    public boolean moltenVents$advanceActivation(BlockState activeState, long gameTime) {
+        BlockEntity be = moltenVents$self();
 
-    // ---- NBT persistence -------------------------------------------------------
+        if (!this.getHeatLevelFromBlock().isAtLeast(BlazeBurnerBlock.HeatLevel.SEETHING)) {
+            moltenVents$resetActivation();
+            return false;
+        }
 
-    @Inject(method = "write", at = @At("HEAD"))
-    private void moltenVents$write(CompoundTag tag, net.minecraft.core.HolderLookup.Provider registries, boolean clientPacket, CallbackInfo ci) {
-        tag.putInt("moltenVentsConversionTimer", moltenVents$conversionTimer);
-    }
+        VentActivationProgress progress = VentActivationProgress.get((ServerLevel) be.getLevel());
+        long burnerPos = be.getBlockPos().asLong();
+        long deadline = progress.deadline(burnerPos);
+        if (deadline == Long.MIN_VALUE) {
+            progress.start(burnerPos, gameTime, MoltenVentsActivationConfig.current().activationTicks());
+            return true;
+        }
+        if (gameTime < deadline) {
+            return true;
+        }
 
-    @Inject(method = "read", at = @At("HEAD"))
-    private void moltenVents$read(CompoundTag tag, net.minecraft.core.HolderLookup.Provider registries, boolean clientPacket, CallbackInfo ci) {
-        if (tag.contains("moltenVentsConversionTimer")) {
-            moltenVents$conversionTimer = tag.getInt("moltenVentsConversionTimer");
-        } else {
-            moltenVents$conversionTimer = -1;
+        BlockPos ventPos = be.getBlockPos().below();
+        VentActivationEvent event = new VentActivationEvent();
+        if (event.shouldCommit()) {
+            event.burnerX = ventPos.getX();
+            event.burnerY = ventPos.getY() + 1;
+            event.burnerZ = ventPos.getZ();
+            event.dormantBlock = BuiltInRegistries.BLOCK.getKey(be.getLevel().getBlockState(ventPos).getBlock()).toString();
+            event.activeBlock = BuiltInRegistries.BLOCK.getKey(activeState.getBlock()).toString();
+            event.commit();
         }
+        be.getLevel().setBlock(ventPos, activeState, Block.UPDATE_ALL);
+        progress.clear(burnerPos);
+        MoltenVentsMetrics.CONVERSIONS.increment();
+        return false;
     }
 
-    // ---- tick ------------------------------------------------------------------
-
-    @Inject(method = "tick", at = @At("HEAD"))
-    private void moltenVents$tick(CallbackInfo ci) {
+    @Override
+    public void moltenVents$resetActivation() {
         BlockEntity be = moltenVents$self();
-
-        // Only run server-side (Ponder virtual worlds are also client-side, so this covers both)
-        if (!be.hasLevel() || be.getLevel().isClientSide()) return;
-
-        BlockPos belowPos = be.getBlockPos().below();
-        Block belowBlock = be.getLevel().getBlockState(belowPos).getBlock();
-
-        ResourceLocation belowId = BuiltInRegistries.BLOCK.getKey(belowBlock);
-        if (belowId == null) {
-            moltenVents$conversionTimer = -1;
-            return;
-        }
-
-        String activeIdStr = MoltenVentsActivationConfig.INSTANCE.getActiveId(belowId.toString());
-
-        if (activeIdStr != null && this.getHeatLevelFromBlock().isAtLeast(BlazeBurnerBlock.HeatLevel.SEETHING)) {
-            int maxTicks = MoltenVentsActivationConfig.INSTANCE.activationTicks;
-
-            if (moltenVents$conversionTimer < 0) {
-                moltenVents$conversionTimer = maxTicks;
-                be.setChanged();
-            } else if (moltenVents$conversionTimer == 0) {
-                ResourceLocation activeId = ResourceLocation.tryParse(activeIdStr);
-                if (activeId != null) {
-                    Optional<Block> activeBlockOpt = BuiltInRegistries.BLOCK.getOptional(activeId);
-                    activeBlockOpt.ifPresent(activeBlock ->
-                            be.getLevel().setBlock(belowPos, activeBlock.defaultBlockState(), Block.UPDATE_ALL));
-                }
-                moltenVents$conversionTimer = -1;
-                be.setChanged();
-            } else {
-                moltenVents$conversionTimer--;
-                if (moltenVents$conversionTimer % 20 == 0) {
-                    be.setChanged();
-                }
-            }
-        } else {
-            if (moltenVents$conversionTimer >= 0) {
-                moltenVents$conversionTimer = -1;
-                be.setChanged();
-            }
+        if (be.getLevel() instanceof ServerLevel level) {
+            VentActivationProgress.get(level).clear(be.getBlockPos().asLong());
         }
     }
 }
@@ -0,0 +1,20 @@
+package com.Apothic0n.MoltenVents.mixin;
+
+import net.minecraft.world.level.biome.FeatureSorter;
+import net.minecraft.world.level.chunk.ChunkGenerator;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Exposes the generator's per-step feature order, whose indices {@code applyBiomeDecoration}
+ * seeds each feature with. {@code VentRetrogen} needs the same indices to place the same vents.
+ */
+@Mixin(value = ChunkGenerator.class, remap = false)
+public interface ChunkGeneratorAccessor {
+
+    @Accessor("featuresPerStep")
+    Supplier<List<FeatureSorter.StepFeatureData>> moltenVents$featuresPerStep();
+}
@@ -0,0 +1,30 @@
+package com.Apothic0n.MoltenVents.mixin;
+
+import com.Apothic0n.MoltenVents.worldgen.VentSpilloverStore;
+import net.minecraft.world.level.StructureManager;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkGenerator;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Applies vent blocks that neighbouring vents deferred into this chunk (see
+ * {@link VentSpilloverStore}) once the chunk's own features have been placed.
+ *
+ * NeoForge runs with Mojang names in production, so remap=false is correct here as well.
+ */
+@Mixin(value = ChunkGenerator.class, remap = false)
+public abstract class ChunkGeneratorSpilloverMixin {
+
+    @Inject(method = "applyBiomeDecoration", at = @At("TAIL"))
+    private void moltenVents$applySpillover(WorldGenLevel level, ChunkAccess chunk, StructureManager structureManager, CallbackInfo ci) {
+        VentSpilloverStore store = VentSpilloverStore.get(level.getLevel());
+        if (store != null) {
+            store.apply(level, chunk.getPos(), Block.UPDATE_CLIENTS);
+        }
+    }
+}
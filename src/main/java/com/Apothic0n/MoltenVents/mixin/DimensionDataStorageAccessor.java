@@ -0,0 +1,20 @@
+package com.Apothic0n.MoltenVents.mixin;
+
+import net.minecraft.world.level.saveddata.SavedData;
+import net.minecraft.world.level.storage.DimensionDataStorage;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import java.util.Map;
+
+/**
+ * Exposes the loaded-data cache of {@link DimensionDataStorage}, which otherwise keeps every
+ * {@link SavedData} it ever loaded until the level closes. {@code VentIndex} drops clean index
+ * buckets from it so cold regions can be garbage collected and are read again on next use.
+ */
+@Mixin(value = DimensionDataStorage.class, remap = false)
+public interface DimensionDataStorageAccessor {
+
+    @Accessor("cache")
+    Map<String, SavedData> moltenVents$cache();
+}
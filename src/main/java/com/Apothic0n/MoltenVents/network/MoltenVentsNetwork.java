@@ -0,0 +1,25 @@
+package com.Apothic0n.MoltenVents.network;
+
+import com.Apothic0n.MoltenVents.client.VentProgressClient;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
+import net.neoforged.neoforge.network.registration.PayloadRegistrar;
+
+/**
+ * Registers the mod's network payloads. Optional, so vanilla clients and servers without the mod
+ * can still connect; they simply never see vent progress.
+ */
+public class MoltenVentsNetwork {
+
+    private static final String VERSION = "1";
+
+    public static void register(IEventBus eventBus) {
+        eventBus.addListener(MoltenVentsNetwork::onRegisterPayloads);
+    }
+
+    private static void onRegisterPayloads(RegisterPayloadHandlersEvent event) {
+        PayloadRegistrar registrar = event.registrar(VERSION).optional();
+        registrar.playToClient(VentProgressPayload.TYPE, VentProgressPayload.STREAM_CODEC,
+                (payload, context) -> VentProgressClient.accept(payload, context.player().level().getGameTime()));
+    }
+}
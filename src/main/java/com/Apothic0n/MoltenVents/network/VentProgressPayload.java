@@ -0,0 +1,69 @@
+package com.Apothic0n.MoltenVents.network;
+
+import com.Apothic0n.MoltenVents.MoltenVents;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Activation progress of every heating burner in one chunk, sent to the players tracking it.
+ *
+ * Positions are sent relative to the chunk (packed into one int each) with the ticks left until
+ * conversion and the total ticks that timer was started with, so clients do not depend on the
+ * current {@code activationTicks}; an empty payload tells clients the chunk has no running timers
+ * any more.
+ */
+public record VentProgressPayload(long chunkPos, int[] positions, int[] remaining, int[] totals) implements CustomPacketPayload {
+
+    public static final Type<VentProgressPayload> TYPE = new Type<>(ResourceLocation.fromNamespaceAndPath(MoltenVents.MODID, "vent_progress"));
+
+    public static final StreamCodec<FriendlyByteBuf, VentProgressPayload> STREAM_CODEC =
+            CustomPacketPayload.codec(VentProgressPayload::write, VentProgressPayload::read);
+
+    private void write(FriendlyByteBuf buf) {
+        buf.writeLong(chunkPos);
+        buf.writeVarInt(positions.length);
+        for (int i = 0; i < positions.length; i++) {
+            buf.writeInt(positions[i]);
+            buf.writeVarInt(remaining[i]);
+            buf.writeVarInt(totals[i]);
+        }
+    }
+
+    private static VentProgressPayload read(FriendlyByteBuf buf) {
+        long chunkPos = buf.readLong();
+        int size = buf.readVarInt();
+        int[] positions = new int[size];
+        int[] remaining = new int[size];
+        int[] totals = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = buf.readInt();
+            remaining[i] = buf.readVarInt();
+            totals[i] = buf.readVarInt();
+        }
+        return new VentProgressPayload(chunkPos, positions, remaining, totals);
+    }
+
+    /** Packs a block position into 4 + 4 bits of in-chunk x/z and the full y. */
+    public static int packLocal(int x, int y, int z) {
+        return (x & 15) << 28 | (z & 15) << 24 | (y & 0xFFFFFF);
+    }
+
+    public static int localX(int packed) {
+        return packed >>> 28;
+    }
+
+    public static int localZ(int packed) {
+        return (packed >>> 24) & 15;
+    }
+
+    public static int localY(int packed) {
+        return (packed << 8) >> 8;
+    }
+
+    @Override
+    public Type<VentProgressPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,53 @@
+package com.Apothic0n.MoltenVents.worldgen;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Fluid tick scheduling for vent liquids placed during worldgen.
+ *
+ * Worldgen writes never schedule ticks on their own, so a vent's liquid would sit still until
+ * something next to it changes. Only liquid that could actually move gets a tick: liquid with
+ * an open or replaceable block below or beside it, or a different fluid to react with. A lava
+ * core sealed inside its walls stays untouched and costs nothing when the chunk first loads.
+ */
+public final class VentFluidTicks {
+
+    /** Directions a fluid can spread or react in; fluids never flow up. */
+    public static final List<Direction> SPREAD = List.of(Direction.DOWN, Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST);
+
+    private VentFluidTicks() {}
+
+    /**
+     * Whether {@code fluid} at {@code pos} has anywhere to go.
+     *
+     * @param states looks up the block at a packed position, including writes not yet applied
+     */
+    public static boolean isExposed(FluidState fluid, long pos, LongFunction<BlockState> states) {
+        for (int i = 0; i < SPREAD.size(); i++) {
+            if (canFlowInto(fluid, states.apply(BlockPos.offset(pos, SPREAD.get(i))))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Whether {@code fluid} would spread into, or react with, {@code neighbour}. */
+    public static boolean canFlowInto(FluidState fluid, BlockState neighbour) {
+        FluidState neighbourFluid = neighbour.getFluidState();
+        if (neighbourFluid.isEmpty()) {
+            return neighbour.isAir() || neighbour.canBeReplaced();
+        }
+        return !neighbourFluid.getType().isSame(fluid.getType());
+    }
+
+    public static void schedule(WorldGenLevel level, BlockPos pos, FluidState fluid) {
+        level.scheduleTick(pos, fluid.getType(), fluid.getType().getTickDelay(level));
+    }
+}
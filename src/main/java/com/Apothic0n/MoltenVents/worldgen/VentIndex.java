@@ -0,0 +1,272 @@
+package com.Apothic0n.MoltenVents.worldgen;
+
+import com.Apothic0n.MoltenVents.mixin.DimensionDataStorageAccessor;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.levelgen.feature.ConfiguredFeature;
+import net.minecraft.world.level.saveddata.SavedData;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Per-level index of every vent {@code MoltenVentFeature} has placed, for {@code /moltenvents locate}
+ * and {@link #nearest}.
+ *
+ * Worldgen threads only {@link #record} into a batch of their own; the server thread drains every
+ * batch each tick (and before saving) into region buckets. Batches are reused, so recording a vent
+ * allocates nothing once a thread's batch has grown to size. Each bucket is its own {@link VentIndexBucket}
+ * data file, and a small manifest lists which buckets exist, so a new vent only marks its own
+ * region dirty instead of re-serializing the whole index.
+ *
+ * Buckets are read on first use by a drain or query, never at level load. At most
+ * {@link #MAX_LOADED_BUCKETS} stay loaded; beyond that the least recently used clean ones are
+ * dropped, from the level's data storage as well, and read again when needed.
+ *
+ * Nearest queries search buckets in rings outwards from the query position and stop as soon as
+ * no unvisited ring can hold anything closer, so their cost depends on how far the nearest vent
+ * is, not on how many vents the level has.
+ */
+public class VentIndex {
+
+    /** Bucket edge length in chunks, matching region files. */
+    static final int BUCKET_CHUNKS = 32;
+    private static final int BUCKET_SHIFT = 9;
+    private static final int BUCKET_BLOCKS = 1 << BUCKET_SHIFT;
+    static final int MAX_LOADED_BUCKETS = 64;
+
+    private static final String MANIFEST_NAME = "molten_vents_index";
+    private static final String UNKNOWN_FEATURE = "unknown";
+
+    private static final Map<ServerLevel, VentIndex> INDEXES = new ConcurrentHashMap<>();
+
+    /** A vent found by {@link #nearest}. */
+    public record LocatedVent(BlockPos origin, String feature) {}
+
+    /**
+     * Vents recorded by one worldgen thread and not yet drained. Only ever locked by its own
+     * thread and, briefly, by {@link #drain}, so the lock is practically uncontended.
+     */
+    private static final class PendingBatch {
+        final LongArrayList origins = new LongArrayList();
+        final ObjectArrayList<ConfiguredFeature<?, ?>> features = new ObjectArrayList<>();
+    }
+
+    private final ServerLevel level;
+    private final Manifest manifest;
+    /** Loaded buckets, least recently used first. */
+    private final Long2ObjectLinkedOpenHashMap<VentIndexBucket> buckets = new Long2ObjectLinkedOpenHashMap<>();
+    /** Every thread's batch, registered on the thread's first record. */
+    private final Queue<PendingBatch> batches = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<PendingBatch> threadBatch = ThreadLocal.withInitial(this::newBatch);
+    /** Drained vents, copied out of the batches under their locks. Server thread only. */
+    private final LongArrayList drainOrigins = new LongArrayList();
+    private final ObjectArrayList<ConfiguredFeature<?, ?>> drainFeatures = new ObjectArrayList<>();
+
+    private VentIndex(ServerLevel level) {
+        this.level = level;
+        this.manifest = level.getDataStorage().computeIfAbsent(
+                new SavedData.Factory<>(Manifest::new, Manifest::load, null), MANIFEST_NAME);
+    }
+
+    // -------------------------------------------------------------------------
+    //  Lookup
+    // -------------------------------------------------------------------------
+
+    /** Returns the index for {@code level}, or {@code null} if the level is not (or no longer) loaded. */
+    @Nullable
+    public static VentIndex get(@Nullable ServerLevel level) {
+        return level == null ? null : INDEXES.get(level);
+    }
+
+    static void attach(ServerLevel level) {
+        INDEXES.put(level, new VentIndex(level));
+    }
+
+    static void detach(ServerLevel level) {
+        VentIndex index = INDEXES.remove(level);
+        if (index != null) {
+            index.drain();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    //  Recording
+    // -------------------------------------------------------------------------
+
+    /** Queues a placed vent. Safe to call from any worldgen thread; does nothing outside a server level. */
+    public static void record(WorldGenLevel level, BlockPos origin, Optional<ConfiguredFeature<?, ?>> feature) {
+        VentIndex index = get(level.getLevel());
+        if (index != null) {
+            PendingBatch batch = index.threadBatch.get();
+            synchronized (batch) {
+                batch.origins.add(origin.asLong());
+                batch.features.add(feature.orElse(null));
+            }
+        }
+    }
+
+    private PendingBatch newBatch() {
+        PendingBatch batch = new PendingBatch();
+        batches.add(batch);
+        return batch;
+    }
+
+    /** Moves queued vents into their buckets. Server thread only. */
+    void drain() {
+        for (PendingBatch batch : batches) {
+            synchronized (batch) {
+                drainOrigins.addAll(batch.origins);
+                drainFeatures.addAll(batch.features);
+                batch.origins.clear();
+                batch.features.clear();
+            }
+        }
+        if (drainOrigins.isEmpty()) return;
+        Registry<ConfiguredFeature<?, ?>> registry = level.registryAccess().registryOrThrow(Registries.CONFIGURED_FEATURE);
+        for (int i = 0; i < drainOrigins.size(); i++) {
+            long origin = drainOrigins.getLong(i);
+            ConfiguredFeature<?, ?> feature = drainFeatures.get(i);
+            ResourceLocation id = feature == null ? null : registry.getKey(feature);
+            long bucketKey = bucketKey(BlockPos.getX(origin), BlockPos.getZ(origin));
+            if (manifest.buckets.add(bucketKey)) {
+                manifest.setDirty();
+            }
+            bucket(bucketKey).add(origin, id == null ? UNKNOWN_FEATURE : id.toString());
+        }
+        drainOrigins.clear();
+        drainFeatures.clear();
+        evictColdBuckets();
+    }
+
+    // -------------------------------------------------------------------------
+    //  Queries
+    // -------------------------------------------------------------------------
+
+    /**
+     * Finds the indexed vent closest to {@code from} horizontally, within {@code maxDistance}
+     * blocks. Server thread only.
+     */
+    public Optional<LocatedVent> nearest(BlockPos from, int maxDistance) {
+        drain();
+        int x = from.getX();
+        int z = from.getZ();
+        int centerX = x >> BUCKET_SHIFT;
+        int centerZ = z >> BUCKET_SHIFT;
+        int maxRing = (maxDistance >> BUCKET_SHIFT) + 1;
+
+        long bestDistance = (long) maxDistance * maxDistance;
+        VentIndexBucket bestBucket = null;
+        int bestIndex = -1;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                for (int dz = -ring; dz <= ring; dz++) {
+                    if (Math.abs(dx) != ring && Math.abs(dz) != ring) continue;
+                    long bucketKey = ChunkPos.asLong(centerX + dx, centerZ + dz);
+                    if (!manifest.buckets.contains(bucketKey)) continue;
+                    VentIndexBucket bucket = bucket(bucketKey);
+                    for (int i = 0; i < bucket.size(); i++) {
+                        long origin = bucket.origins.getLong(i);
+                        long ox = BlockPos.getX(origin) - x;
+                        long oz = BlockPos.getZ(origin) - z;
+                        long distance = ox * ox + oz * oz;
+                        if (distance <= bestDistance) {
+                            bestDistance = distance;
+                            bestBucket = bucket;
+                            bestIndex = i;
+                        }
+                    }
+                }
+            }
+            // Everything beyond this ring is at least this far away on one axis
+            long edge = Math.min(
+                    Math.min(x - (long) (centerX - ring) * BUCKET_BLOCKS, (long) (centerX + ring + 1) * BUCKET_BLOCKS - x),
+                    Math.min(z - (long) (centerZ - ring) * BUCKET_BLOCKS, (long) (centerZ + ring + 1) * BUCKET_BLOCKS - z));
+            if (bestBucket != null && bestDistance <= edge * edge) {
+                break;
+            }
+        }
+        Optional<LocatedVent> nearest = bestBucket == null ? Optional.empty() : Optional.of(
+                new LocatedVent(BlockPos.of(bestBucket.origins.getLong(bestIndex)), bestBucket.featureAt(bestIndex)));
+        evictColdBuckets();
+        return nearest;
+    }
+
+    // -------------------------------------------------------------------------
+    //  Storage
+    // -------------------------------------------------------------------------
+
+    private static long bucketKey(int blockX, int blockZ) {
+        return ChunkPos.asLong(blockX >> BUCKET_SHIFT, blockZ >> BUCKET_SHIFT);
+    }
+
+    private static String bucketName(long bucketKey) {
+        return MANIFEST_NAME + "_" + ChunkPos.getX(bucketKey) + "_" + ChunkPos.getZ(bucketKey);
+    }
+
+    /** Returns the bucket, reading it on first use, and marks it most recently used. */
+    private VentIndexBucket bucket(long bucketKey) {
+        VentIndexBucket bucket = buckets.getAndMoveToLast(bucketKey);
+        if (bucket == null) {
+            bucket = level.getDataStorage().computeIfAbsent(
+                    new SavedData.Factory<>(VentIndexBucket::new, VentIndexBucket::load, null), bucketName(bucketKey));
+            buckets.putAndMoveToLast(bucketKey, bucket);
+        }
+        return bucket;
+    }
+
+    /**
+     * Drops least recently used buckets past {@link #MAX_LOADED_BUCKETS}. Dirty buckets are kept
+     * until the level has saved them; dropping one from the data storage then loses nothing.
+     */
+    private void evictColdBuckets() {
+        int excess = buckets.size() - MAX_LOADED_BUCKETS;
+        if (excess <= 0) return;
+        Map<String, SavedData> cache = ((DimensionDataStorageAccessor) level.getDataStorage()).moltenVents$cache();
+        ObjectIterator<Long2ObjectMap.Entry<VentIndexBucket>> iterator = buckets.long2ObjectEntrySet().fastIterator();
+        while (excess > 0 && iterator.hasNext()) {
+            Long2ObjectMap.Entry<VentIndexBucket> entry = iterator.next();
+            if (entry.getValue().isDirty()) continue;
+            cache.remove(bucketName(entry.getLongKey()));
+            iterator.remove();
+            excess--;
+        }
+    }
+
+    /** Which buckets have a data file; only dirtied when a vent lands in a new region. */
+    private static class Manifest extends SavedData {
+        final LongOpenHashSet buckets = new LongOpenHashSet();
+
+        @Override
+        public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+            tag.put("buckets", new LongArrayTag(buckets.toLongArray()));
+            return tag;
+        }
+
+        static Manifest load(CompoundTag tag, HolderLookup.Provider registries) {
+            Manifest manifest = new Manifest();
+            for (long bucketKey : tag.getLongArray("buckets")) {
+                manifest.buckets.add(bucketKey);
+            }
+            return manifest;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.Apothic0n.MoltenVents.worldgen;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.level.saveddata.SavedData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Vents generated in one {@link VentIndex#BUCKET_CHUNKS}×{@link VentIndex#BUCKET_CHUNKS} chunk
+ * region, saved as its own small data file so appending a vent only re-writes that region.
+ *
+ * Stored as packed {@link net.minecraft.core.BlockPos#asLong()} origins plus an index into a
+ * palette of configured feature ids. Only touched from the server thread.
+ */
+class VentIndexBucket extends SavedData {
+
+    final LongArrayList origins = new LongArrayList();
+    final IntArrayList features = new IntArrayList();
+    final List<String> palette = new ArrayList<>();
+    private final Object2IntOpenHashMap<String> paletteIndex = new Object2IntOpenHashMap<>();
+
+    VentIndexBucket() {
+        paletteIndex.defaultReturnValue(-1);
+    }
+
+    void add(long origin, String featureId) {
+        int index = paletteIndex.getInt(featureId);
+        if (index < 0) {
+            index = palette.size();
+            palette.add(featureId);
+            paletteIndex.put(featureId, index);
+        }
+        origins.add(origin);
+        features.add(index);
+        setDirty();
+    }
+
+    int size() {
+        return origins.size();
+    }
+
+    String featureAt(int i) {
+        return palette.get(features.getInt(i));
+    }
+
+    // -------------------------------------------------------------------------
+    //  Persistence
+    // -------------------------------------------------------------------------
+
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        ListTag paletteTag = new ListTag();
+        for (String featureId : palette) {
+            paletteTag.add(StringTag.valueOf(featureId));
+        }
+        tag.put("palette", paletteTag);
+        tag.put("origins", new LongArrayTag(origins.toLongArray()));
+        tag.put("features", new IntArrayTag(features.toIntArray()));
+        return tag;
+    }
+
+    static VentIndexBucket load(CompoundTag tag, HolderLookup.Provider registries) {
+        VentIndexBucket bucket = new VentIndexBucket();
+        ListTag paletteTag = tag.getList("palette", Tag.TAG_STRING);
+        String[] palette = new String[paletteTag.size()];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = paletteTag.getString(i);
+        }
+        long[] origins = tag.getLongArray("origins");
+        int[] features = tag.getIntArray("features");
+        for (int i = 0; i < Math.min(origins.length, features.length); i++) {
+            if (features[i] >= 0 && features[i] < palette.length) {
+                bucket.add(origins[i], palette[features[i]]);
+            }
+        }
+        // Loading is not a change
+        bucket.setDirty(false);
+        return bucket;
+    }
+}
@@ -0,0 +1,378 @@
+package com.Apothic0n.MoltenVents.worldgen;
+
+import com.Apothic0n.MoltenVents.api.biome.features.types.MoltenVentFeature;
+import com.Apothic0n.MoltenVents.mixin.ChunkGeneratorAccessor;
+import com.mojang.logging.LogUtils;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.HolderSet;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.FeatureSorter;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.RandomSupport;
+import net.minecraft.world.level.levelgen.WorldgenRandom;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import net.minecraft.world.level.levelgen.placement.PlacedFeature;
+import net.minecraft.world.level.saveddata.SavedData;
+import org.slf4j.Logger;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Backfills vents into chunks that were generated before the mod was added.
+ *
+ * While enabled, every loaded chunk that is not yet marked done is queued. Each tick the queue is
+ * worked through until {@link #budgetMicros()} is used up: the vent features of the chunk's biomes
+ * run through their normal placement modifiers, as during generation, and the chunk is
+ * marked done. The budget is checked before every feature, so a chunk with several vent features
+ * can be spread over several ticks. Chunks whose neighbours are not loaded wait, so a vent never
+ * forces a chunk load. Placement goes through the live level with the normal block update flags,
+ * so neighbours react to the new blocks as they would to any other block change.
+ *
+ * Chunks generated while retrogen is enabled already got their vents and are marked done without
+ * placing anything. Chunks generated with the mod <em>before</em> retrogen was enabled cannot be
+ * told apart from older ones, so enable it once, right after adding the mod to an existing world.
+ *
+ * The enabled flag and budget are saved with the level, so retrogen resumes after a restart. Done
+ * chunks are kept as one bit per chunk in a {@link VentRetrogenRegion} file per region, so marking
+ * a chunk done only re-writes its own region. Server thread only.
+ */
+public class VentRetrogen extends SavedData {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final String DATA_NAME = "molten_vents_retrogen";
+
+    /** Region edge length in chunks, matching region files. */
+    static final int REGION_CHUNKS = 32;
+    private static final int REGION_SHIFT = 5;
+
+    public static final int DEFAULT_BUDGET_MICROS = 1000;
+    public static final int MIN_BUDGET_MICROS = 50;
+    public static final int MAX_BUDGET_MICROS = 25_000;
+
+    /** A vent feature, with the step and per-step generator index that seed its random in generation. */
+    private record VentFeature(PlacedFeature feature, int step, int index) {}
+
+    /** The chunk being retrogenned: its vent features, the next one to place and the seed they share. */
+    private static final class ChunkWork {
+        final long chunkKey;
+        final List<VentFeature> features;
+        final BlockPos origin;
+        final long decorationSeed;
+        int next;
+
+        ChunkWork(long chunkKey, List<VentFeature> features, BlockPos origin, long decorationSeed, int next) {
+            this.chunkKey = chunkKey;
+            this.features = features;
+            this.origin = origin;
+            this.decorationSeed = decorationSeed;
+            this.next = next;
+        }
+    }
+
+    private final ServerLevel level;
+    private boolean enabled;
+    private int budgetMicros = DEFAULT_BUDGET_MICROS;
+    private int doneCount;
+
+    // Runtime only: rebuilt from chunk loads after a restart
+    private final Long2ObjectOpenHashMap<VentRetrogenRegion> regions = new Long2ObjectOpenHashMap<>();
+    private final LongArrayFIFOQueue pending = new LongArrayFIFOQueue();
+    private final LongOpenHashSet queued = new LongOpenHashSet();
+    /** Next feature index of chunks that were interrupted by an unload part way through. */
+    private final Long2IntOpenHashMap interrupted = new Long2IntOpenHashMap();
+    private final Reference2ObjectOpenHashMap<Biome, List<VentFeature>> featuresByBiome = new Reference2ObjectOpenHashMap<>();
+    private final WorldgenRandom random = new WorldgenRandom(new XoroshiroRandomSource(RandomSupport.generateUniqueSeed()));
+    @Nullable private ChunkWork current;
+
+    private VentRetrogen(ServerLevel level) {
+        this.level = level;
+    }
+
+    public static VentRetrogen get(ServerLevel level) {
+        return level.getDataStorage().computeIfAbsent(new SavedData.Factory<>(
+                () -> new VentRetrogen(level),
+                (tag, registries) -> load(level, tag),
+                null), DATA_NAME);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int budgetMicros() {
+        return budgetMicros;
+    }
+
+    public int doneCount() {
+        return doneCount;
+    }
+
+    public int queuedCount() {
+        return pending.size() + (current != null ? 1 : 0);
+    }
+
+    // -------------------------------------------------------------------------
+    //  Control
+    // -------------------------------------------------------------------------
+
+    /** Enables retrogen with the given per-tick budget and queues the chunks around every player. */
+    public void start(int budgetMicros) {
+        this.enabled = true;
+        this.budgetMicros = Mth.clamp(budgetMicros, MIN_BUDGET_MICROS, MAX_BUDGET_MICROS);
+        setDirty();
+        int radius = level.getServer().getPlayerList().getViewDistance();
+        for (ServerPlayer player : level.players()) {
+            ChunkPos center = player.chunkPosition();
+            for (int dx = -radius; dx <= radius; dx++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    if (level.getChunkSource().getChunkNow(center.x + dx, center.z + dz) != null) {
+                        enqueue(ChunkPos.asLong(center.x + dx, center.z + dz));
+                    }
+                }
+            }
+        }
+    }
+
+    /** Disables retrogen. Chunks already done stay done. */
+    public void stop() {
+        enabled = false;
+        pending.clear();
+        queued.clear();
+        interrupted.clear();
+        current = null;
+        setDirty();
+    }
+
+    // -------------------------------------------------------------------------
+    //  Scheduling
+    // -------------------------------------------------------------------------
+
+    void onChunkLoad(LevelChunk chunk, boolean newChunk) {
+        if (!enabled) return;
+        long chunkKey = chunk.getPos().toLong();
+        if (isDone(chunkKey)) return;
+        if (newChunk) {
+            // Generated just now, so the vent features already ran
+            markDone(chunkKey);
+        } else {
+            enqueue(chunkKey);
+        }
+    }
+
+    private void enqueue(long chunkKey) {
+        if (!isDone(chunkKey) && queued.add(chunkKey)) {
+            pending.enqueue(chunkKey);
+        }
+    }
+
+    /** Places queued chunks' vent features, one feature at a time, until this tick's budget is spent. */
+    void tick() {
+        if (!enabled || (current == null && pending.isEmpty())) return;
+        long deadline = System.nanoTime() + budgetMicros * 1000L;
+        // Chunks waiting on neighbours go to the back; visit each at most once per tick
+        int visits = pending.size();
+        while (System.nanoTime() < deadline) {
+            if (current == null) {
+                if (visits-- <= 0 || pending.isEmpty()) return;
+                current = next();
+                continue;
+            }
+            placeNext(current);
+        }
+    }
+
+    /** Dequeues the next chunk that can be worked on now, or returns {@code null}. */
+    @Nullable
+    private ChunkWork next() {
+        long chunkKey = pending.dequeueLong();
+        int chunkX = ChunkPos.getX(chunkKey);
+        int chunkZ = ChunkPos.getZ(chunkKey);
+        LevelChunk chunk = level.getChunkSource().getChunkNow(chunkX, chunkZ);
+        if (chunk == null) {
+            // Unloaded since it was queued; it is queued again when it loads
+            queued.remove(chunkKey);
+            return null;
+        }
+        if (!neighboursLoaded(chunkX, chunkZ)) {
+            pending.enqueue(chunkKey);
+            return null;
+        }
+        queued.remove(chunkKey);
+        List<VentFeature> features = ventFeatures(chunk);
+        int next = interrupted.remove(chunkKey);
+        if (next >= features.size()) {
+            markDone(chunkKey);
+            return null;
+        }
+        ChunkPos chunkPos = chunk.getPos();
+        BlockPos origin = new BlockPos(chunkPos.getMinBlockX(), level.getMinBuildHeight(), chunkPos.getMinBlockZ());
+        long decorationSeed = random.setDecorationSeed(level.getSeed(), origin.getX(), origin.getZ());
+        return new ChunkWork(chunkKey, features, origin, decorationSeed, next);
+    }
+
+    /**
+     * Places the next vent feature of {@code work}, with a random seeded from the world seed,
+     * chunk, step and feature index, the same way {@code ChunkGenerator.applyBiomeDecoration}
+     * seeds its features. Each feature's random depends only on those, so a chunk gives the same
+     * vents whether it is done in one tick or several.
+     */
+    private void placeNext(ChunkWork work) {
+        int chunkX = ChunkPos.getX(work.chunkKey);
+        int chunkZ = ChunkPos.getZ(work.chunkKey);
+        if (level.getChunkSource().getChunkNow(chunkX, chunkZ) == null || !neighboursLoaded(chunkX, chunkZ)) {
+            // Unloaded part way through; carry on from here once it is back
+            interrupted.put(work.chunkKey, work.next);
+            current = null;
+            enqueue(work.chunkKey);
+            return;
+        }
+        VentFeature feature = work.features.get(work.next++);
+        random.setFeatureSeed(work.decorationSeed, feature.index(), feature.step());
+        try {
+            feature.feature().placeWithBiomeCheck(level, level.getChunkSource().getGenerator(), random, work.origin);
+        } catch (RuntimeException e) {
+            LOGGER.error("[MoltenVents] Retrogen of a vent failed in chunk {}, skipping it.", new ChunkPos(work.chunkKey), e);
+        }
+        if (work.next >= work.features.size()) {
+            markDone(work.chunkKey);
+            current = null;
+        }
+    }
+
+    /** Vents reach into the neighbouring chunks; placing next to an unloaded one would load it synchronously. */
+    private boolean neighboursLoaded(int chunkX, int chunkZ) {
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                if ((dx != 0 || dz != 0) && level.getChunkSource().getChunkNow(chunkX + dx, chunkZ + dz) == null) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // -------------------------------------------------------------------------
+    //  Features
+    // -------------------------------------------------------------------------
+
+    /**
+     * The vent features of every biome in the chunk and its neighbours, each once, in step and
+     * index order: the same set and order {@code ChunkGenerator.applyBiomeDecoration} would run.
+     */
+    private List<VentFeature> ventFeatures(LevelChunk chunk) {
+        ReferenceLinkedOpenHashSet<Holder<Biome>> biomes = new ReferenceLinkedOpenHashSet<>();
+        ChunkPos center = chunk.getPos();
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                LevelChunk neighbour = level.getChunkSource().getChunkNow(center.x + dx, center.z + dz);
+                if (neighbour == null) continue;
+                for (LevelChunkSection section : neighbour.getSections()) {
+                    section.getBiomes().getAll(biomes::add);
+                }
+            }
+        }
+        biomes.retainAll(level.getChunkSource().getGenerator().getBiomeSource().possibleBiomes());
+        // Biomes can share a vent feature; it still runs once per chunk
+        ReferenceOpenHashSet<PlacedFeature> seen = new ReferenceOpenHashSet<>();
+        List<VentFeature> features = new ArrayList<>();
+        for (Holder<Biome> biome : biomes) {
+            for (VentFeature feature : ventFeatures(biome.value())) {
+                if (seen.add(feature.feature())) {
+                    features.add(feature);
+                }
+            }
+        }
+        features.sort(Comparator.comparingInt(VentFeature::step).thenComparingInt(VentFeature::index));
+        return features;
+    }
+
+    /**
+     * The biome's vent features, each with its index in the generator's per-step feature order,
+     * which is what generation seeds a feature with (not its position in this biome's list).
+     */
+    private List<VentFeature> ventFeatures(Biome biome) {
+        List<VentFeature> features = featuresByBiome.get(biome);
+        if (features != null) {
+            return features;
+        }
+        features = new ArrayList<>();
+        List<FeatureSorter.StepFeatureData> featuresPerStep =
+                ((ChunkGeneratorAccessor) level.getChunkSource().getGenerator()).moltenVents$featuresPerStep().get();
+        List<HolderSet<PlacedFeature>> steps = biome.getGenerationSettings().features();
+        for (int step = 0; step < Math.min(steps.size(), featuresPerStep.size()); step++) {
+            FeatureSorter.StepFeatureData stepData = featuresPerStep.get(step);
+            for (Holder<PlacedFeature> placed : steps.get(step)) {
+                if (placed.value().feature().value().feature() instanceof MoltenVentFeature) {
+                    features.add(new VentFeature(placed.value(), step, stepData.indexMapping().applyAsInt(placed.value())));
+                }
+            }
+        }
+        featuresByBiome.put(biome, features);
+        return features;
+    }
+
+    // -------------------------------------------------------------------------
+    //  Persistence
+    // -------------------------------------------------------------------------
+
+    private boolean isDone(long chunkKey) {
+        return region(chunkKey).isDone(ChunkPos.getX(chunkKey), ChunkPos.getZ(chunkKey));
+    }
+
+    private void markDone(long chunkKey) {
+        if (region(chunkKey).markDone(ChunkPos.getX(chunkKey), ChunkPos.getZ(chunkKey))) {
+            doneCount++;
+            setDirty();
+        }
+    }
+
+    private VentRetrogenRegion region(long chunkKey) {
+        int regionX = ChunkPos.getX(chunkKey) >> REGION_SHIFT;
+        int regionZ = ChunkPos.getZ(chunkKey) >> REGION_SHIFT;
+        long regionKey = ChunkPos.asLong(regionX, regionZ);
+        VentRetrogenRegion region = regions.get(regionKey);
+        if (region == null) {
+            region = level.getDataStorage().computeIfAbsent(
+                    new SavedData.Factory<>(VentRetrogenRegion::new, VentRetrogenRegion::load, null),
+                    DATA_NAME + "_" + regionX + "_" + regionZ);
+            regions.put(regionKey, region);
+        }
+        return region;
+    }
+
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        tag.putBoolean("enabled", enabled);
+        tag.putInt("budgetMicros", budgetMicros);
+        tag.putInt("doneCount", doneCount);
+        return tag;
+    }
+
+    private static VentRetrogen load(ServerLevel level, CompoundTag tag) {
+        VentRetrogen retrogen = new VentRetrogen(level);
+        retrogen.enabled = tag.getBoolean("enabled");
+        if (tag.contains("budgetMicros")) {
+            retrogen.budgetMicros = Mth.clamp(tag.getInt("budgetMicros"), MIN_BUDGET_MICROS, MAX_BUDGET_MICROS);
+        }
+        retrogen.doneCount = tag.getInt("doneCount");
+        return retrogen;
+    }
+}
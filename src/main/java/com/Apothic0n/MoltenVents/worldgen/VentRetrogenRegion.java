@@ -0,0 +1,56 @@
+package com.Apothic0n.MoltenVents.worldgen;
+
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.world.level.saveddata.SavedData;
+
+/**
+ * Which chunks of one {@link VentRetrogen#REGION_CHUNKS}×{@link VentRetrogen#REGION_CHUNKS}
+ * region are done with retrogen, one bit per chunk, saved as its own small data file so marking a
+ * chunk done only re-writes its own region. Only touched from the server thread.
+ */
+class VentRetrogenRegion extends SavedData {
+
+    private static final int WORDS = VentRetrogen.REGION_CHUNKS * VentRetrogen.REGION_CHUNKS / Long.SIZE;
+
+    private final long[] done = new long[WORDS];
+
+    boolean isDone(int chunkX, int chunkZ) {
+        int bit = bit(chunkX, chunkZ);
+        return (done[bit >>> 6] & 1L << bit) != 0;
+    }
+
+    /** Marks the chunk done; returns {@code false} if it already was. */
+    boolean markDone(int chunkX, int chunkZ) {
+        int bit = bit(chunkX, chunkZ);
+        long word = done[bit >>> 6];
+        if ((word & 1L << bit) != 0) {
+            return false;
+        }
+        done[bit >>> 6] = word | 1L << bit;
+        setDirty();
+        return true;
+    }
+
+    private static int bit(int chunkX, int chunkZ) {
+        return (chunkZ & (VentRetrogen.REGION_CHUNKS - 1)) * VentRetrogen.REGION_CHUNKS + (chunkX & (VentRetrogen.REGION_CHUNKS - 1));
+    }
+
+    // -------------------------------------------------------------------------
+    //  Persistence
+    // -------------------------------------------------------------------------
+
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        tag.put("done", new LongArrayTag(done.clone()));
+        return tag;
+    }
+
+    static VentRetrogenRegion load(CompoundTag tag, HolderLookup.Provider registries) {
+        VentRetrogenRegion region = new VentRetrogenRegion();
+        long[] words = tag.getLongArray("done");
+        System.arraycopy(words, 0, region.done, 0, Math.min(words.length, WORDS));
+        return region;
+    }
+}
@@ -0,0 +1,295 @@
+package com.Apothic0n.MoltenVents.worldgen;
+
+import com.mojang.logging.LogUtils;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderGetter;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.level.saveddata.SavedData;
+import org.slf4j.Logger;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+/**
+ * Vent blocks that fell outside the chunk being decorated and whose target chunk had not run its
+ * own feature step yet.
+ *
+ * Writes are grouped per target chunk and applied (see
+ * {@link com.Apothic0n.MoltenVents.mixin.ChunkGeneratorSpilloverMixin}) once that chunk reaches
+ * the feature stage, so vents never have to write into undecorated neighbours. The store is saved
+ * with the level so pending writes survive a restart mid-generation; each chunk is stored as a
+ * small block state palette plus packed positions and palette indices, encoded again only after
+ * it changed.
+ *
+ * A chunk's status only reads as decorated some time after its pending writes were applied, so a
+ * neighbour can still try to defer into it in between. Deferring and applying therefore take the
+ * same lock (striped by chunk), and applying marks the chunk drained: {@link #defer} refuses a
+ * drained chunk and the caller writes through instead. Drained marks are only needed for that
+ * short window and expire after {@link #DRAINED_TTL_NANOS}. Pending chunks are capped at
+ * {@link #MAX_PENDING_CHUNKS}; past that, the oldest (chunks that were never generated) are dropped.
+ */
+public class VentSpilloverStore extends SavedData {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final String DATA_NAME = "molten_vents_spillover";
+
+    private static final int STRIPES = 64;
+    static final int MAX_PENDING_CHUNKS = 1 << 16;
+    private static final int MAX_PENDING_PER_STRIPE = MAX_PENDING_CHUNKS / STRIPES;
+    static final long DRAINED_TTL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    /** Stores are created on the server thread at level load and only read here from worldgen threads. */
+    private static final Map<ServerLevel, VentSpilloverStore> STORES = new ConcurrentHashMap<>();
+
+    /** The chunks whose key hashes to one stripe, guarded by the stripe itself. */
+    private static final class Stripe {
+        /** In order of first deferral, so the cap drops the oldest. */
+        final Long2ObjectLinkedOpenHashMap<PendingChunk> pending = new Long2ObjectLinkedOpenHashMap<>();
+        /** Drained chunk → {@link System#nanoTime()} of the drain, oldest first. */
+        final Long2LongLinkedOpenHashMap drained = new Long2LongLinkedOpenHashMap();
+    }
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final AtomicInteger droppedChunks = new AtomicInteger();
+
+    public VentSpilloverStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    //  Lookup
+    // -------------------------------------------------------------------------
+
+    /** Returns the store for {@code level}, or {@code null} if the level is not (or no longer) loaded. */
+    @Nullable
+    public static VentSpilloverStore get(@Nullable ServerLevel level) {
+        return level == null ? null : STORES.get(level);
+    }
+
+    static void attach(ServerLevel level) {
+        STORES.put(level, level.getDataStorage().computeIfAbsent(
+                new SavedData.Factory<>(VentSpilloverStore::new, VentSpilloverStore::load, null), DATA_NAME));
+    }
+
+    static void detach(ServerLevel level) {
+        STORES.remove(level);
+    }
+
+    private Stripe stripe(long chunkKey) {
+        return stripes[(int) HashCommon.mix(chunkKey) & (STRIPES - 1)];
+    }
+
+    // -------------------------------------------------------------------------
+    //  Deferring / applying
+    // -------------------------------------------------------------------------
+
+    /**
+     * Queues {@code pos → state} for the chunk it falls in.
+     *
+     * @return {@code false} if that chunk's pending writes were already applied; the caller must
+     *         then write the block itself
+     */
+    public boolean defer(long pos, BlockState state) {
+        long chunkKey = ChunkPos.asLong(BlockPos.getX(pos) >> 4, BlockPos.getZ(pos) >> 4);
+        Stripe stripe = stripe(chunkKey);
+        synchronized (stripe) {
+            if (stripe.drained.containsKey(chunkKey)) {
+                return false;
+            }
+            PendingChunk chunk = stripe.pending.get(chunkKey);
+            if (chunk == null) {
+                chunk = new PendingChunk();
+                stripe.pending.put(chunkKey, chunk);
+                if (stripe.pending.size() > MAX_PENDING_PER_STRIPE) {
+                    stripe.pending.removeFirst();
+                    if (droppedChunks.getAndIncrement() == 0) {
+                        LOGGER.warn("[MoltenVents] More than {} chunks have deferred vent blocks; dropping the oldest.", MAX_PENDING_CHUNKS);
+                    }
+                }
+            }
+            chunk.writes.put(pos, state);
+            chunk.saved = null;
+        }
+        setDirty();
+        return true;
+    }
+
+    /**
+     * Writes every pending block for {@code chunkPos} into {@code level}, forgets them and marks
+     * the chunk drained, so later {@link #defer} calls for it write through.
+     *
+     * @return the number of blocks written
+     */
+    public int apply(WorldGenLevel level, ChunkPos chunkPos, int flags) {
+        long chunkKey = chunkPos.toLong();
+        Stripe stripe = stripe(chunkKey);
+        PendingChunk chunk;
+        synchronized (stripe) {
+            long now = System.nanoTime();
+            while (!stripe.drained.isEmpty() && now - stripe.drained.get(stripe.drained.firstLongKey()) > DRAINED_TTL_NANOS) {
+                stripe.drained.removeFirstLong();
+            }
+            stripe.drained.putAndMoveToLast(chunkKey, now);
+            chunk = stripe.pending.remove(chunkKey);
+            if (chunk == null) {
+                return 0;
+            }
+        }
+        setDirty();
+        ApplyScratch scratch = SCRATCH.get();
+        scratch.level = level;
+        try {
+            int written = 0;
+            ObjectIterator<Long2ObjectMap.Entry<BlockState>> iterator = chunk.writes.long2ObjectEntrySet().fastIterator();
+            while (iterator.hasNext()) {
+                Long2ObjectMap.Entry<BlockState> entry = iterator.next();
+                if (level.setBlock(scratch.cursor.set(entry.getLongKey()), entry.getValue(), flags)) {
+                    written++;
+                }
+            }
+            // Exposure is checked once everything is in place, against what is actually in the level
+            iterator = chunk.writes.long2ObjectEntrySet().fastIterator();
+            while (iterator.hasNext()) {
+                Long2ObjectMap.Entry<BlockState> entry = iterator.next();
+                FluidState fluid = entry.getValue().getFluidState();
+                if (!fluid.isEmpty() && VentFluidTicks.isExposed(fluid, entry.getLongKey(), scratch.levelStates)) {
+                    VentFluidTicks.schedule(level, scratch.cursor.set(entry.getLongKey()), fluid);
+                }
+            }
+            return written;
+        } finally {
+            scratch.level = null;
+        }
+    }
+
+    /** Per-thread cursors and level lookup for {@link #apply}, so applying does not allocate them each time. */
+    private static final class ApplyScratch {
+        WorldGenLevel level;
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        final BlockPos.MutableBlockPos neighbour = new BlockPos.MutableBlockPos();
+        final LongFunction<BlockState> levelStates = pos -> level.getBlockState(neighbour.set(pos));
+    }
+
+    private static final ThreadLocal<ApplyScratch> SCRATCH = ThreadLocal.withInitial(ApplyScratch::new);
+
+    public int pendingChunkCount() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.pending.size();
+            }
+        }
+        return count;
+    }
+
+    // -------------------------------------------------------------------------
+    //  Persistence
+    // -------------------------------------------------------------------------
+
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        ListTag chunks = new ListTag();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                for (Long2ObjectMap.Entry<PendingChunk> entry : stripe.pending.long2ObjectEntrySet()) {
+                    chunks.add(entry.getValue().save(entry.getLongKey()));
+                }
+            }
+        }
+        tag.put("chunks", chunks);
+        return tag;
+    }
+
+    private static VentSpilloverStore load(CompoundTag tag, HolderLookup.Provider registries) {
+        VentSpilloverStore store = new VentSpilloverStore();
+        HolderGetter<Block> blocks = registries.lookupOrThrow(Registries.BLOCK);
+        ListTag chunks = tag.getList("chunks", Tag.TAG_COMPOUND);
+        for (int i = 0; i < chunks.size(); i++) {
+            CompoundTag chunkTag = chunks.getCompound(i);
+            long chunkKey = chunkTag.getLong("chunk");
+            store.stripe(chunkKey).pending.put(chunkKey, PendingChunk.load(chunkTag, blocks));
+        }
+        return store;
+    }
+
+    /** Pending writes for one chunk; a later write to the same position replaces the earlier one. */
+    private static class PendingChunk {
+        final Long2ObjectLinkedOpenHashMap<BlockState> writes = new Long2ObjectLinkedOpenHashMap<>();
+        /** Encoded form from the last save, or {@code null} if the writes changed since. */
+        @Nullable CompoundTag saved;
+
+        /** The returned tag is cached and reused by later saves, so it must not be modified. */
+        CompoundTag save(long chunkKey) {
+            if (saved != null) {
+                return saved;
+            }
+            Object2IntOpenHashMap<BlockState> paletteIndex = new Object2IntOpenHashMap<>();
+            paletteIndex.defaultReturnValue(-1);
+            ListTag palette = new ListTag();
+            long[] positions = new long[writes.size()];
+            int[] indices = new int[writes.size()];
+            int i = 0;
+            for (Long2ObjectMap.Entry<BlockState> entry : writes.long2ObjectEntrySet()) {
+                BlockState state = entry.getValue();
+                int index = paletteIndex.getInt(state);
+                if (index < 0) {
+                    index = palette.size();
+                    palette.add(NbtUtils.writeBlockState(state));
+                    paletteIndex.put(state, index);
+                }
+                positions[i] = entry.getLongKey();
+                indices[i] = index;
+                i++;
+            }
+            CompoundTag tag = new CompoundTag();
+            tag.putLong("chunk", chunkKey);
+            tag.put("palette", palette);
+            tag.put("positions", new LongArrayTag(positions));
+            tag.put("states", new IntArrayTag(indices));
+            saved = tag;
+            return tag;
+        }
+
+        static PendingChunk load(CompoundTag tag, HolderGetter<Block> blocks) {
+            ListTag paletteTag = tag.getList("palette", Tag.TAG_COMPOUND);
+            BlockState[] palette = new BlockState[paletteTag.size()];
+            for (int i = 0; i < palette.length; i++) {
+                palette[i] = NbtUtils.readBlockState(blocks, paletteTag.getCompound(i));
+            }
+            long[] positions = tag.getLongArray("positions");
+            int[] indices = tag.getIntArray("states");
+            PendingChunk chunk = new PendingChunk();
+            for (int i = 0; i < Math.min(positions.length, indices.length); i++) {
+                if (indices[i] >= 0 && indices[i] < palette.length) {
+                    chunk.writes.put(positions[i], palette[indices[i]]);
+                }
+            }
+            return chunk;
+        }
+    }
+}
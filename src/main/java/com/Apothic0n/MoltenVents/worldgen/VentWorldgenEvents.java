@@ -0,0 +1,66 @@
+package com.Apothic0n.MoltenVents.worldgen;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+/**
+ * Game-bus listeners that attach the per-level worldgen stores on the server thread, before any
+ * chunk of that level is generated, drain the vent index and run {@link VentRetrogen} on the
+ * server thread.
+ */
+public class VentWorldgenEvents {
+
+    public static void register(IEventBus eventBus) {
+        eventBus.addListener(VentWorldgenEvents::onLevelLoad);
+        eventBus.addListener(VentWorldgenEvents::onLevelUnload);
+        eventBus.addListener(VentWorldgenEvents::onLevelTick);
+        eventBus.addListener(VentWorldgenEvents::onLevelSave);
+        eventBus.addListener(VentWorldgenEvents::onChunkLoad);
+    }
+
+    private static void onLevelLoad(LevelEvent.Load event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            VentSpilloverStore.attach(level);
+            VentIndex.attach(level);
+        }
+    }
+
+    private static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            VentSpilloverStore.detach(level);
+            VentIndex.detach(level);
+        }
+    }
+
+    private static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            VentIndex index = VentIndex.get(level);
+            if (index != null) {
+                index.drain();
+            }
+            level.getProfiler().push("molten_vents_retrogen");
+            VentRetrogen.get(level).tick();
+            level.getProfiler().pop();
+        }
+    }
+
+    private static void onChunkLoad(ChunkEvent.Load event) {
+        if (event.getLevel() instanceof ServerLevel level && event.getChunk() instanceof LevelChunk chunk) {
+            VentRetrogen.get(level).onChunkLoad(chunk, event.isNewChunk());
+        }
+    }
+
+    /** Vents recorded since the last tick would otherwise miss this save. */
+    private static void onLevelSave(LevelEvent.Save event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            VentIndex index = VentIndex.get(level);
+            if (index != null) {
+                index.drain();
+            }
+        }
+    }
+}